@@ -0,0 +1,136 @@
+package benchmark;
+
+import graphql.GraphQLContext;
+import graphql.execution.CoercedVariables;
+import graphql.schema.Coercing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the four coercing operations of every scalar in {@link graphql.scalars.ExtendedScalars}
+ * with valid, edge case and invalid inputs.
+ * <p>
+ * Run it with {@code ./gradlew jmh -PjmhInclude=ExtendedScalarsBenchmark}. The gc profiler is enabled
+ * in the build so the results contain {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ExtendedScalarsBenchmark {
+
+    @Param({
+            "DateTime", "Date", "Time", "YearMonth", "Year", "LocalTime",
+            "AccurateDuration", "NominalDuration", "SecondsSinceEpoch",
+            "Object", "Json", "Uri", "Url", "Locale", "Currency", "CountryCode", "HexColorCode", "UUID",
+            "PositiveInt", "NegativeInt", "NonPositiveInt", "NonNegativeInt",
+            "PositiveFloat", "NegativeFloat", "NonPositiveFloat", "NonNegativeFloat",
+            "GraphQLLong", "GraphQLShort", "GraphQLByte", "GraphQLBigDecimal", "GraphQLBigInteger", "GraphQLChar"
+    })
+    public String scalar;
+
+    private Coercing<?, ?> coercing;
+    private ScalarFixtures fixtures;
+    private final GraphQLContext graphQLContext = GraphQLContext.newContext().build();
+    private final CoercedVariables variables = CoercedVariables.emptyVariables();
+    private final Locale locale = Locale.getDefault();
+
+    @Setup
+    public void setup() throws NoSuchFieldException {
+        Param param = ExtendedScalarsBenchmark.class.getField("scalar").getAnnotation(Param.class);
+        ScalarFixtures.assertAllScalarsCovered(Arrays.asList(param.value()));
+        coercing = ScalarFixtures.scalarFor(scalar).getCoercing();
+        fixtures = ScalarFixtures.fixturesFor(scalar);
+    }
+
+    @Benchmark
+    public Object serializeValid() {
+        return coercing.serialize(fixtures.valid, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object serializeEdge() {
+        return coercing.serialize(fixtures.edge, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object serializeInvalid() {
+        try {
+            return coercing.serialize(fixtures.invalid, graphQLContext, locale);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object parseValueValid() {
+        return coercing.parseValue(fixtures.valid, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseValueEdge() {
+        return coercing.parseValue(fixtures.edge, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseValueInvalid() {
+        try {
+            return coercing.parseValue(fixtures.invalid, graphQLContext, locale);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object parseLiteralValid() {
+        return coercing.parseLiteral(fixtures.validLiteral, variables, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseLiteralEdge() {
+        return coercing.parseLiteral(fixtures.edgeLiteral, variables, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseLiteralInvalid() {
+        try {
+            return coercing.parseLiteral(fixtures.invalidLiteral, variables, graphQLContext, locale);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object valueToLiteralValid() {
+        return coercing.valueToLiteral(fixtures.valid, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object valueToLiteralEdge() {
+        return coercing.valueToLiteral(fixtures.edge, graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object valueToLiteralInvalid() {
+        try {
+            return coercing.valueToLiteral(fixtures.invalid, graphQLContext, locale);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package benchmark;
+
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.scalars.ExtendedScalars;
+import graphql.schema.GraphQLScalarType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The inputs used by {@link ExtendedScalarsBenchmark}, keyed by the name of the public constant in
+ * {@link graphql.scalars.ExtendedScalars}.
+ * <p>
+ * Every scalar has a valid input, an edge case input (still valid but at the limits of the format or range) and
+ * an invalid input, both as runtime values and as AST literals.
+ */
+final class ScalarFixtures {
+
+    final Object valid;
+    final Object edge;
+    final Object invalid;
+    final Value<?> validLiteral;
+    final Value<?> edgeLiteral;
+    final Value<?> invalidLiteral;
+
+    private ScalarFixtures(Object valid, Object edge, Object invalid, Value<?> validLiteral, Value<?> edgeLiteral, Value<?> invalidLiteral) {
+        this.valid = valid;
+        this.edge = edge;
+        this.invalid = invalid;
+        this.validLiteral = validLiteral;
+        this.edgeLiteral = edgeLiteral;
+        this.invalidLiteral = invalidLiteral;
+    }
+
+    private static final Map<String, ScalarFixtures> FIXTURES = new LinkedHashMap<>();
+
+    static {
+        strings("DateTime", "1996-12-19T16:39:57-08:00", "1937-01-01T12:00:27.123456789+00:20", "2022-11-24T01:00:01.02-00:00");
+        strings("Date", "1996-12-19", "2020-02-29", "2010-02-30");
+        strings("Time", "16:39:57-08:00", "23:59:59.999999999Z", "24:00:00Z");
+        strings("LocalTime", "16:39:57", "23:59:59.999999999", "25:00");
+        strings("YearMonth", "1996-12", "0001-01", "1996-13");
+        strings("Year", "1996", "9999", "19a6");
+        strings("AccurateDuration", "PT1H30M", "-P1DT2H3M4.000000001S", "P1Y");
+        strings("NominalDuration", "P1M", "P-1Y2M3W4D", "PT1H");
+        strings("Uri", "https://example.com/a?b=c", "urn:isbn:0451450523", "http://exa mple.com");
+        strings("Url", "https://example.com/a?b=c", "file:///tmp/x", "not a url");
+        strings("Locale", "en-AU", "zh-Hant-TW-x-private", "");
+        strings("Currency", "USD", "XAU", "ZZZ");
+        strings("CountryCode", "AU", "ZW", "XX");
+        strings("HexColorCode", "#ff0000", "#0f08", "#gg0000");
+        strings("UUID", "2423f0a0-3b81-4115-a189-18df8b35e8fc", "00000000-0000-0000-0000-000000000000", "2423f0a0");
+
+        add("SecondsSinceEpoch", 1609459200L, "1609459200", "16094a9200",
+                new IntValue(BigInteger.valueOf(1609459200L)), new StringValue("0"), new StringValue("-1"));
+
+        Map<String, Object> object = new LinkedHashMap<>();
+        object.put("startSpan", "First");
+        object.put("count", 3);
+        object.put("enabled", true);
+        Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("matchCriteria", object);
+        nested.put("isoCodes", Arrays.asList("27B-34R", "95A-E23", null));
+        nested.put("ratio", 0.25d);
+        ObjectValue objectLiteral = ObjectValue.newObjectValue()
+                .objectField(new ObjectField("startSpan", new StringValue("First")))
+                .objectField(new ObjectField("count", new IntValue(BigInteger.valueOf(3))))
+                .objectField(new ObjectField("enabled", new BooleanValue(true)))
+                .build();
+        ObjectValue nestedLiteral = ObjectValue.newObjectValue()
+                .objectField(new ObjectField("matchCriteria", objectLiteral))
+                .objectField(new ObjectField("isoCodes", ArrayValue.newArrayValue()
+                        .value(new StringValue("27B-34R"))
+                        .value(new StringValue("95A-E23"))
+                        .value(NullValue.newNullValue().build())
+                        .build()))
+                .objectField(new ObjectField("ratio", new FloatValue(new BigDecimal("0.25"))))
+                .build();
+        // the object scalars accept any runtime value, only the conversion back into a literal can fail
+        add("Object", object, nested, new Object(), objectLiteral, nestedLiteral, NullValue.newNullValue().build());
+        add("Json", object, nested, new Object(), objectLiteral, nestedLiteral, NullValue.newNullValue().build());
+
+        ints("PositiveInt", 42, Integer.MAX_VALUE, 0);
+        ints("NegativeInt", -42, Integer.MIN_VALUE, 0);
+        ints("NonPositiveInt", -42, 0, 1);
+        ints("NonNegativeInt", 42, 0, -1);
+
+        floats("PositiveFloat", 42.5d, Double.MIN_VALUE, 0.0d);
+        floats("NegativeFloat", -42.5d, -Double.MIN_VALUE, 0.0d);
+        floats("NonPositiveFloat", -42.5d, 0.0d, 0.1d);
+        floats("NonNegativeFloat", 42.5d, 0.0d, -0.1d);
+
+        add("GraphQLLong", 9007199254740993L, "9223372036854775807", "9223372036854775808",
+                new IntValue(BigInteger.valueOf(9007199254740993L)), new StringValue("-9223372036854775808"), new IntValue(new BigInteger("9223372036854775808")));
+        add("GraphQLShort", (short) 1234, -32768, 32768,
+                new IntValue(BigInteger.valueOf(1234)), new IntValue(BigInteger.valueOf(Short.MAX_VALUE)), new IntValue(BigInteger.valueOf(32768)));
+        add("GraphQLByte", (byte) 12, "127", 128,
+                new IntValue(BigInteger.valueOf(12)), new IntValue(BigInteger.valueOf(Byte.MIN_VALUE)), new IntValue(BigInteger.valueOf(128)));
+        add("GraphQLBigDecimal", new BigDecimal("12345.6789"), "-1.000000000000000000001E-10", "12,5",
+                new FloatValue(new BigDecimal("12345.6789")), new StringValue("-1.000000000000000000001E-10"), new StringValue("12,5"));
+        add("GraphQLBigInteger", new BigInteger("1234567890"), "123456789012345678901234567890", "1.5",
+                new IntValue(new BigInteger("1234567890")), new FloatValue(new BigDecimal("1.2E+20")), new FloatValue(new BigDecimal("1.5")));
+        add("GraphQLChar", 'a', "\u00e9", "ab",
+                new StringValue("a"), new StringValue("\u00e9"), new StringValue("ab"));
+    }
+
+    private static void add(String name, Object valid, Object edge, Object invalid, Value<?> validLiteral, Value<?> edgeLiteral, Value<?> invalidLiteral) {
+        FIXTURES.put(name, new ScalarFixtures(valid, edge, invalid, validLiteral, edgeLiteral, invalidLiteral));
+    }
+
+    private static void strings(String name, String valid, String edge, String invalid) {
+        add(name, valid, edge, invalid, new StringValue(valid), new StringValue(edge), new StringValue(invalid));
+    }
+
+    private static void ints(String name, int valid, int edge, int invalid) {
+        add(name, valid, edge, invalid,
+                new IntValue(BigInteger.valueOf(valid)), new IntValue(BigInteger.valueOf(edge)), new IntValue(BigInteger.valueOf(invalid)));
+    }
+
+    private static void floats(String name, double valid, double edge, double invalid) {
+        add(name, valid, edge, invalid,
+                new FloatValue(BigDecimal.valueOf(valid)), new FloatValue(BigDecimal.valueOf(edge)), new FloatValue(BigDecimal.valueOf(invalid)));
+    }
+
+    static ScalarFixtures fixturesFor(String name) {
+        ScalarFixtures fixtures = FIXTURES.get(name);
+        if (fixtures == null) {
+            throw new IllegalArgumentException("There are no benchmark fixtures for the scalar '" + name + "'");
+        }
+        return fixtures;
+    }
+
+    static GraphQLScalarType scalarFor(String name) {
+        try {
+            return (GraphQLScalarType) ExtendedScalars.class.getField(name).get(null);
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new IllegalArgumentException("There is no scalar called '" + name + "' in ExtendedScalars", e);
+        }
+    }
+
+    /**
+     * Fails if a scalar constant has been added to {@link graphql.scalars.ExtendedScalars} without
+     * also being added here, so the benchmarks keep covering every scalar.
+     */
+    static void assertAllScalarsCovered(List<String> benchmarkedNames) {
+        Set<String> expected = new TreeSet<>();
+        for (Field field : ExtendedScalars.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == GraphQLScalarType.class) {
+                expected.add(field.getName());
+            }
+        }
+        Set<String> missingFixtures = new TreeSet<>(expected);
+        missingFixtures.removeAll(FIXTURES.keySet());
+        Set<String> missingParams = new TreeSet<>(expected);
+        missingParams.removeAll(benchmarkedNames);
+        if (!missingFixtures.isEmpty() || !missingParams.isEmpty()) {
+            throw new IllegalStateException("Scalars without fixtures : " + missingFixtures + ", scalars without benchmark params : " + missingParams);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package benchmark;
+
+import graphql.GraphQLContext;
+import graphql.scalars.ExtendedScalars;
+import graphql.schema.Coercing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalTime;
+import java.time.OffsetTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the `LocalTime` and `Time` scalars, which parse and print with a hand written codec, with the
+ * {@link DateTimeFormatter#ISO_LOCAL_TIME} and {@link DateTimeFormatter#ISO_OFFSET_TIME} paths they used before.
+ * <p>
+ * The inputs are a small set of schedule style times that repeat, with and without seconds and fractions.
+ * Run it with {@code ./gradlew jmh -PjmhInclude=TimeCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class TimeCodecBenchmark {
+
+    private static final String[] LOCAL_TIMES = {
+            "09:00", "09:30:00", "12:15:30.5", "17:45:00.123", "23:59:59.999999999"
+    };
+    private static final String[] OFFSET_TIMES = {
+            "09:00Z", "09:30:00+01:00", "12:15:30.5-05:00", "17:45:00.123+05:30", "23:59:59.999999999Z"
+    };
+
+    private final GraphQLContext graphQLContext = GraphQLContext.newContext().build();
+    private final Locale locale = Locale.getDefault();
+
+    private Coercing<?, ?> localTimeCoercing;
+    private Coercing<?, ?> timeCoercing;
+    private LocalTime[] localTimeValues;
+    private OffsetTime[] offsetTimeValues;
+    private int index;
+
+    @Setup
+    public void setup() {
+        localTimeCoercing = ExtendedScalars.LocalTime.getCoercing();
+        timeCoercing = ExtendedScalars.Time.getCoercing();
+        localTimeValues = new LocalTime[LOCAL_TIMES.length];
+        offsetTimeValues = new OffsetTime[OFFSET_TIMES.length];
+        for (int i = 0; i < LOCAL_TIMES.length; i++) {
+            localTimeValues[i] = LocalTime.parse(LOCAL_TIMES[i]);
+            offsetTimeValues[i] = OffsetTime.parse(OFFSET_TIMES[i]);
+        }
+    }
+
+    private int next() {
+        index = (index + 1) % LOCAL_TIMES.length;
+        return index;
+    }
+
+    @Benchmark
+    public Object parseLocalTimeCodec() {
+        return localTimeCoercing.parseValue(LOCAL_TIMES[next()], graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseLocalTimeFormatter() {
+        return LocalTime.from(DateTimeFormatter.ISO_LOCAL_TIME.parse(LOCAL_TIMES[next()]));
+    }
+
+    @Benchmark
+    public Object serializeLocalTimeCodec() {
+        return localTimeCoercing.serialize(localTimeValues[next()], graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object serializeLocalTimeFormatter() {
+        return DateTimeFormatter.ISO_LOCAL_TIME.format(localTimeValues[next()]);
+    }
+
+    @Benchmark
+    public Object parseOffsetTimeCodec() {
+        return timeCoercing.parseValue(OFFSET_TIMES[next()], graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object parseOffsetTimeFormatter() {
+        return OffsetTime.from(DateTimeFormatter.ISO_OFFSET_TIME.parse(OFFSET_TIMES[next()]));
+    }
+
+    @Benchmark
+    public Object serializeOffsetTimeCodec() {
+        return timeCoercing.serialize(offsetTimeValues[next()], graphQLContext, locale);
+    }
+
+    @Benchmark
+    public Object serializeOffsetTimeFormatter() {
+        return DateTimeFormatter.ISO_OFFSET_TIME.format(offsetTimeValues[next()]);
+    }
+}
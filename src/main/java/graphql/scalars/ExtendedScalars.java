@@ -1,5 +1,6 @@
 package graphql.scalars;
 
+import graphql.Assert;
 import graphql.PublicApi;
 import graphql.scalars.alias.AliasedScalar;
 import graphql.scalars.color.hex.HexColorCodeScalar;
@@ -7,16 +8,23 @@ import graphql.scalars.country.code.CountryCodeScalar;
 import graphql.scalars.currency.CurrencyScalar;
 import graphql.scalars.datetime.DateScalar;
 import graphql.scalars.datetime.DateTimeScalar;
+import graphql.scalars.datetime.DateTimeSerializationCache;
+import graphql.scalars.datetime.EpochScalar;
 import graphql.scalars.datetime.AccurateDurationScalar;
 import graphql.scalars.datetime.LocalTimeCoercing;
+import graphql.scalars.datetime.NominalDurationCache;
 import graphql.scalars.datetime.NominalDurationScalar;
 import graphql.scalars.datetime.SecondsSinceEpochScalar;
 import graphql.scalars.datetime.TimeScalar;
 import graphql.scalars.datetime.YearMonthScalar;
 import graphql.scalars.datetime.YearScalar;
+import graphql.scalars.java.BigNumberScalar;
 import graphql.scalars.java.JavaPrimitives;
 import graphql.scalars.locale.LocaleScalar;
 import graphql.scalars.id.UUIDScalar;
+import graphql.scalars.numeric.DecimalScalar;
+import graphql.scalars.numeric.FloatRangeScalar;
+import graphql.scalars.numeric.IntRangeScalar;
 import graphql.scalars.numeric.NegativeFloatScalar;
 import graphql.scalars.numeric.NegativeIntScalar;
 import graphql.scalars.numeric.NonNegativeFloatScalar;
@@ -30,6 +38,8 @@ import graphql.scalars.object.ObjectScalar;
 import graphql.scalars.regex.RegexScalar;
 import graphql.scalars.uri.UriScalar;
 import graphql.scalars.url.UrlScalar;
+import graphql.scalars.util.LiteralCache;
+import graphql.scalars.util.LiteralCachingScalar;
 import graphql.schema.GraphQLScalarType;
 
 /**
@@ -52,6 +62,21 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType DateTime = DateTimeScalar.INSTANCE;
 
+    /**
+     * Creates a {@link #DateTime} scalar whose serialization keeps the formatted `yyyy-MM-ddTHH:mm:ss` part of
+     * recently seen values in the given cache.  This helps when many of the serialized values share the same second,
+     * such as in event log results.
+     *
+     * @param serializationCache the bounded cache of formatted seconds, which can be shared between scalars
+     *
+     * @return a new DateTime scalar
+     *
+     * @see DateTimeSerializationCache
+     */
+    public static GraphQLScalarType newDateTimeScalar(DateTimeSerializationCache serializationCache) {
+        return DateTimeScalar.newDateTimeScalar(Assert.assertNotNull(serializationCache));
+    }
+
     /**
      * An RFC-3339 compliant date scalar that accepts string values like `1996-12-19` and produces
      * `java.time.LocalDate` objects at runtime.
@@ -140,6 +165,20 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType NominalDuration = NominalDurationScalar.INSTANCE;
 
+    /**
+     * Creates a {@link #NominalDuration} scalar that keeps recently parsed and serialized periods in the given cache.
+     * This helps when the same few periods, such as `P1M` or `P1Y`, are used over and over.
+     *
+     * @param cache the bounded cache of periods, which can be shared between scalars
+     *
+     * @return a new NominalDuration scalar
+     *
+     * @see NominalDurationCache
+     */
+    public static GraphQLScalarType newNominalDurationScalar(NominalDurationCache cache) {
+        return NominalDurationScalar.newNominalDurationScalar(Assert.assertNotNull(cache));
+    }
+
     /**
      * A scalar that represents a point in time as seconds since the Unix epoch (Unix timestamp).
      * <p>
@@ -168,6 +207,31 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType SecondsSinceEpoch = SecondsSinceEpochScalar.INSTANCE;
 
+    /**
+     * A builder of a scalar that represents a point in time as seconds, milliseconds or nanoseconds since the Unix epoch.
+     * <p>
+     * Unlike {@link #SecondsSinceEpoch} it can produce `java.time.Instant` objects or the raw `long` count at runtime,
+     * which avoids creating a `java.time.ZonedDateTime` for every value.  It accepts integers or strings containing
+     * optionally negative integers as input values, and serializes `Long`, `Integer`, `Instant` and other
+     * {@link java.time.temporal.TemporalAccessor}s that define an instant to a `long`.
+     * <p>
+     * For example, a scalar of milliseconds since epoch that produces `java.time.Instant` objects is built like this
+     * <pre>
+     * {@code
+     * GraphQLScalarType millis = ExtendedScalars.newEpochScalar("MillisecondsSinceEpoch")
+     *         .unit(ChronoUnit.MILLIS)
+     *         .build();
+     * }
+     * </pre>
+     *
+     * @param name the name of the scalar
+     *
+     * @return a builder of an epoch scalar
+     */
+    public static EpochScalar.Builder newEpochScalar(String name) {
+        return new EpochScalar.Builder().name(name);
+    }
+
     /**
      * An object scalar allows you to have a multi level data value without defining it in the graphql schema.
      * <p>
@@ -205,11 +269,39 @@ public class ExtendedScalars {
      * }
      * }
      * </pre>
+     * <p>
+     * A resolver that already holds an encoded JSON document can return it as a {@link graphql.scalars.object.RawJson}
+     * value, which is serialized as is, so that it is never decoded into maps and lists.
      *
      * @see graphql.scalars.ExtendedScalars#Object
      */
     public static final GraphQLScalarType Json = JsonScalar.INSTANCE;
 
+    /**
+     * A builder of an {@link #Object} scalar with limits on the size of the literals it accepts. Literals from
+     * clients are converted without recursion, and the limits stop large or deeply nested literals from using
+     * a lot of memory.
+     * <pre>
+     * {@code
+     *
+     *      GraphQLScalarType metaData = ExtendedScalars.newObjectScalar("MetaData")
+     *              .maxDepth(32)
+     *              .maxNodes(10_000)
+     *              .maxStringBytes(1_000_000)
+     *              .build();
+     * }
+     * </pre>
+     *
+     * @param name the name of the scalar
+     *
+     * @return a builder of an Object scalar
+     *
+     * @see #Object
+     */
+    public static ObjectScalar.Builder newObjectScalar(String name) {
+        return ObjectScalar.newObjectScalar(name);
+    }
+
     /**
      * A URI scalar that accepts URI strings and produces {@link java.net.URI} objects at runtime
      */
@@ -275,6 +367,25 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType NonNegativeInt = NonNegativeIntScalar.INSTANCE;
 
+    /**
+     * Creates an `Int` scalar that MUST be between the inclusive minimum and maximum, for example a page size or
+     * a percentage.
+     * <p>
+     * The scalar accepts the same inputs as {@link graphql.Scalars#GraphQLInt} but coerces them without going
+     * through the GraphQLInt coercing first.
+     *
+     * @param name the name of the scalar
+     * @param min  the inclusive minimum value
+     * @param max  the inclusive maximum value
+     *
+     * @return a new scalar
+     *
+     * @see graphql.Scalars#GraphQLInt
+     */
+    public static GraphQLScalarType newIntRangeScalar(String name, int min, int max) {
+        return IntRangeScalar.newIntRangeScalar(name, min, max);
+    }
+
     /**
      * An `Float` scalar that MUST be greater than zero
      *
@@ -300,13 +411,58 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType NonNegativeFloat = NonNegativeFloatScalar.INSTANCE;
 
+    /**
+     * Creates a `Float` scalar that MUST be between the minimum and maximum, for example a latitude or a price.
+     * Use {@link Double#NEGATIVE_INFINITY} or {@link Double#POSITIVE_INFINITY} for a range that is open on one side.
+     * <p>
+     * The scalar accepts the same inputs as {@link graphql.Scalars#GraphQLFloat} but coerces them without going
+     * through the GraphQLFloat coercing first. Infinite values are never accepted.
+     *
+     * @param name         the name of the scalar
+     * @param min          the minimum value
+     * @param max          the maximum value
+     * @param minInclusive true if the minimum itself is an acceptable value
+     * @param maxInclusive true if the maximum itself is an acceptable value
+     * @param allowNaN     true if NaN is an acceptable `Double` or `Float` input value
+     *
+     * @return a new scalar
+     *
+     * @see graphql.Scalars#GraphQLFloat
+     */
+    public static GraphQLScalarType newFloatRangeScalar(String name, double min, double max, boolean minInclusive, boolean maxInclusive, boolean allowNaN) {
+        return FloatRangeScalar.newFloatRangeScalar(name, min, max, minInclusive, maxInclusive, allowNaN);
+    }
+
+    /**
+     * Creates a fixed scale decimal scalar, for example for amounts of money with a scale of 2. Values are held at
+     * runtime as a `Long` of minor units, so {@code "12.34"} is parsed into {@code 1234L} and {@code 1234L} is
+     * serialized as {@code "12.34"}, without any {@link java.math.BigDecimal} in between.
+     * <p>
+     * Input values and literals are decimal amounts, whether they are strings, whole numbers or floating point
+     * numbers, so the input value {@code 12} is parsed into {@code 1200L}. They are rejected if they have more decimal
+     * places than the scale or do not fit in a long of minor units.
+     * <p>
+     * When serializing, {@code Long}, {@code Integer}, {@code Short} and {@code Byte} values are minor units, so
+     * {@code 5} is serialized as {@code "0.05"}, while {@link java.math.BigDecimal} and {@code String} values are
+     * decimal amounts. {@code Double} and {@code Float} values are not exact and are rejected.
+     *
+     * @param name  the name of the scalar
+     * @param scale the number of decimal places, between 0 and 18
+     *
+     * @return a new scalar
+     */
+    public static GraphQLScalarType newDecimalScalar(String name, int scale) {
+        return DecimalScalar.newDecimalScalar(name, scale);
+    }
+
 
     /**
      * A builder of a scalar that uses one or more regular expression {@link java.util.regex.Pattern}s to control
      * the acceptable values for that scalar.
      * <p>
      * The scalar converts any passed in objects to Strings first and them matches it against the provided
-     * scalars to ensure its an acceptable value.
+     * scalars to ensure its an acceptable value. Several patterns are combined into one where they allow it, and
+     * {@link RegexScalar#findMatchingPattern(GraphQLScalarType, String)} tells which of them a value matched.
      *
      * @param name the name of the scalar
      *
@@ -316,6 +472,31 @@ public class ExtendedScalars {
         return new RegexScalar.Builder().name(name);
     }
 
+    /**
+     * Creates a scalar that is the same as the given one, except that it keeps the values of the literals it parses
+     * in the given cache. graphql-java passes the same literal nodes to a scalar every time a persisted or cached
+     * document is executed, so their values only need to be parsed once. Literals that contain variable references
+     * are never cached.
+     * <pre>
+     * {@code
+     *
+     *      LiteralCache literalCache = new LiteralCache(4096, 16 * 1024 * 1024);
+     *      GraphQLScalarType json = ExtendedScalars.withLiteralCache(ExtendedScalars.Json, literalCache);
+     *      GraphQLScalarType dateTime = ExtendedScalars.withLiteralCache(ExtendedScalars.DateTime, literalCache);
+     * }
+     * </pre>
+     *
+     * @param scalar       the scalar whose literals are to be cached
+     * @param literalCache the bounded cache of parsed literals, which can be shared between scalars
+     *
+     * @return a new scalar with the same name, description and coercing, apart from its literal parsing
+     *
+     * @see LiteralCache
+     */
+    public static GraphQLScalarType withLiteralCache(GraphQLScalarType scalar, LiteralCache literalCache) {
+        return LiteralCachingScalar.newLiteralCachingScalar(scalar, literalCache);
+    }
+
     /**
      * This allows an existing scalar to be wrapped and aliased with a new name.
      * <p>
@@ -366,6 +547,53 @@ public class ExtendedScalars {
      */
     public static final GraphQLScalarType GraphQLBigInteger = JavaPrimitives.GraphQLBigInteger;
 
+    /**
+     * A builder of a "BigDecimal" scalar with limits on the size of its values. The limits are checked before any
+     * {@link java.math.BigDecimal} is constructed, so that small inputs like {@code "1e999999999"} can not make
+     * later processing of the value very slow.
+     * <pre>
+     * {@code
+     *
+     *      GraphQLScalarType amount = ExtendedScalars.newBigDecimalScalar("Amount")
+     *              .maxDigits(34)
+     *              .maxScale(10)
+     *              .build();
+     * }
+     * </pre>
+     *
+     * @param name the name of the scalar
+     *
+     * @return a builder of a BigDecimal scalar
+     *
+     * @see #GraphQLBigDecimal
+     */
+    public static BigNumberScalar.Builder newBigDecimalScalar(String name) {
+        return BigNumberScalar.newBigDecimalScalar(name);
+    }
+
+    /**
+     * A builder of a "BigInteger" scalar with limits on the size of its values. The limits are checked before any
+     * {@link java.math.BigInteger} is constructed, so that small inputs like {@code "1e999999999"} are rejected
+     * instead of being turned into a number with a billion digits.
+     * <pre>
+     * {@code
+     *
+     *      GraphQLScalarType bigId = ExtendedScalars.newBigIntegerScalar("BigId")
+     *              .maxDigits(39)
+     *              .build();
+     * }
+     * </pre>
+     *
+     * @param name the name of the scalar
+     *
+     * @return a builder of a BigInteger scalar
+     *
+     * @see #GraphQLBigInteger
+     */
+    public static BigNumberScalar.Builder newBigIntegerScalar(String name) {
+        return BigNumberScalar.newBigIntegerScalar(name);
+    }
+
     /**
      * This represents the "Char" type which is a representation of java.lang.Character
      */
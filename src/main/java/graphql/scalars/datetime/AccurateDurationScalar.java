@@ -43,7 +43,7 @@ public class AccurateDurationScalar {
                             "Expected something we can convert to 'java.time.Duration' but was '" + typeName(input) + "'."
                     );
                 }
-                return duration.toString();
+                return DurationCodec.format(duration);
             }
 
             @Override
@@ -78,6 +78,11 @@ public class AccurateDurationScalar {
             }
 
             private Duration parseDuration(String s, Function<String, RuntimeException> exceptionMaker) {
+                Duration fastParse = DurationCodec.parse(s);
+                if (fastParse != null) {
+                    return fastParse;
+                }
+                // Duration.parse gives us the reason why the value was rejected
                 try {
                     return Duration.parse(s);
                 } catch (DateTimeParseException e) {
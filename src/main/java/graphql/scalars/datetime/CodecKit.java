@@ -0,0 +1,106 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+/**
+ * Small helpers shared by the hand written date and time parsers and writers in this package
+ */
+@Internal
+final class CodecKit {
+
+    private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private CodecKit() {
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * @return the value of the two ASCII digits at the position or -1 if they are not both digits
+     */
+    static int twoDigits(String s, int pos) {
+        char c1 = s.charAt(pos);
+        char c2 = s.charAt(pos + 1);
+        if (!isDigit(c1) || !isDigit(c2)) {
+            return -1;
+        }
+        return (c1 - '0') * 10 + (c2 - '0');
+    }
+
+    static int writeTwoDigits(char[] buf, int pos, int value) {
+        buf[pos] = (char) ('0' + value / 10);
+        buf[pos + 1] = (char) ('0' + value % 10);
+        return pos + 2;
+    }
+
+    static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    static boolean isLeapYear(long year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+
+    /**
+     * Parses `Z`, `+HH:mm` or `+HH:mm:ss` which must run to the end of the string and be within +/-18:00.  A lenient
+     * parse, as used by ISO_OFFSET_DATE_TIME, also accepts `+HH`.
+     *
+     * @return the offset in seconds or {@link Integer#MIN_VALUE} if it is not valid
+     */
+    static int parseOffset(String s, int pos, boolean lenient) {
+        int len = s.length();
+        if (pos >= len) {
+            return Integer.MIN_VALUE;
+        }
+        char sign = s.charAt(pos);
+        if (sign == 'Z' || sign == 'z') {
+            return pos + 1 == len ? 0 : Integer.MIN_VALUE;
+        }
+        if ((sign != '+' && sign != '-') || pos + 3 > len) {
+            return Integer.MIN_VALUE;
+        }
+        int hours = twoDigits(s, pos + 1);
+        if (hours < 0 || hours > 23) {
+            return Integer.MIN_VALUE;
+        }
+        int minutes = 0;
+        int seconds = 0;
+        pos += 3;
+        if (pos < len || !lenient) {
+            if (pos + 3 > len || s.charAt(pos) != ':') {
+                return Integer.MIN_VALUE;
+            }
+            minutes = twoDigits(s, pos + 1);
+            if (minutes < 0 || minutes > 59) {
+                return Integer.MIN_VALUE;
+            }
+            pos += 3;
+            if (pos < len) {
+                if (pos + 3 != len || s.charAt(pos) != ':') {
+                    return Integer.MIN_VALUE;
+                }
+                seconds = twoDigits(s, pos + 1);
+                if (seconds < 0 || seconds > 59) {
+                    return Integer.MIN_VALUE;
+                }
+            }
+        }
+        int total = hours * 3600 + minutes * 60 + seconds;
+        if (total > MAX_OFFSET_SECONDS) {
+            return Integer.MIN_VALUE;
+        }
+        return sign == '-' ? -total : total;
+    }
+}
@@ -48,6 +48,10 @@ public final class DateScalar {
                             "Expected a 'String' or 'java.time.temporal.TemporalAccessor' but was '" + typeName(input) + "'."
                     );
                 }
+                String formatted = LocalDateCodec.format(temporalAccessor);
+                if (formatted != null) {
+                    return formatted;
+                }
                 try {
                     return DATE_FORMATTER.format(temporalAccessor);
                 } catch (DateTimeException e) {
@@ -95,6 +99,10 @@ public final class DateScalar {
             }
 
             private LocalDate parseLocalDate(String s, Function<String, RuntimeException> exceptionMaker) {
+                LocalDate localDate = LocalDateCodec.parse(s);
+                if (localDate != null) {
+                    return localDate;
+                }
                 try {
                     TemporalAccessor temporalAccessor = DATE_FORMATTER.parse(s);
                     return LocalDate.from(temporalAccessor);
@@ -11,24 +11,17 @@ import graphql.schema.CoercingParseValueException;
 import graphql.schema.CoercingSerializeException;
 import graphql.schema.GraphQLScalarType;
 
-import java.time.DateTimeException;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.util.Locale;
 import java.util.function.Function;
 
 import static graphql.scalars.util.Kit.typeName;
-import static java.time.format.DateTimeFormatter.ISO_LOCAL_DATE;
-import static java.time.temporal.ChronoField.HOUR_OF_DAY;
-import static java.time.temporal.ChronoField.MILLI_OF_SECOND;
-import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
 import static java.time.temporal.ChronoField.OFFSET_SECONDS;
-import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#DateTime}
@@ -36,14 +29,19 @@ import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 @Internal
 public final class DateTimeScalar {
 
-    public static final GraphQLScalarType INSTANCE;
+    public static final GraphQLScalarType INSTANCE = newDateTimeScalar(null);
 
     private DateTimeScalar() {
     }
 
-    private static final DateTimeFormatter customOutputFormatter = getCustomDateTimeFormatter();
-
-    static {
+    /**
+     * Creates a `DateTime` scalar whose serialization takes the formatted seconds from the cache
+     *
+     * @param serializationCache the cache to use or null to format every value
+     *
+     * @return the new scalar
+     */
+    public static GraphQLScalarType newDateTimeScalar(DateTimeSerializationCache serializationCache) {
         Coercing<OffsetDateTime, String> coercing = new Coercing<>() {
             @Override
             public String serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
@@ -61,13 +59,10 @@ public final class DateTimeScalar {
                             "Expected something we can convert to 'java.time.OffsetDateTime' but was '" + typeName(input) + "'."
                     );
                 }
-                try {
-                    return customOutputFormatter.format(offsetDateTime);
-                } catch (DateTimeException e) {
-                    throw new CoercingSerializeException(
-                            "Unable to turn TemporalAccessor into OffsetDateTime because of : '" + e.getMessage() + "'."
-                    );
+                if (serializationCache != null) {
+                    return OffsetDateTimeCodec.format(offsetDateTime, serializationCache);
                 }
+                return OffsetDateTimeCodec.format(offsetDateTime);
             }
 
             @Override
@@ -106,6 +101,14 @@ public final class DateTimeScalar {
             }
 
             private OffsetDateTime parseOffsetDateTime(String s, Function<String, RuntimeException> exceptionMaker) {
+                OffsetDateTime fastParse = OffsetDateTimeCodec.parse(s);
+                if (fastParse != null) {
+                    if (fastParse.getOffset().getTotalSeconds() == 0 && s.endsWith("-00:00")) {
+                        throw exceptionMaker.apply("Invalid value : '" + s + "'. Negative zero offset is not allowed");
+                    }
+                    return fastParse;
+                }
+                // the formatter gives us the reason why the value was rejected
                 try {
                     OffsetDateTime parse = OffsetDateTime.parse(s, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
                     if (parse.get(OFFSET_SECONDS) == 0 && s.endsWith("-00:00")) {
@@ -118,7 +121,7 @@ public final class DateTimeScalar {
             }
         };
 
-        INSTANCE = GraphQLScalarType.newScalar()
+        return GraphQLScalarType.newScalar()
                 .name("DateTime")
                 .description("A slightly refined version of RFC-3339 compliant DateTime Scalar")
                 .specifiedByUrl("https://scalars.graphql.org/andimarek/date-time") // TODO: Change to .specifiedByURL when builder added to graphql-java
@@ -126,19 +129,4 @@ public final class DateTimeScalar {
                 .build();
     }
 
-    private static DateTimeFormatter getCustomDateTimeFormatter() {
-        return new DateTimeFormatterBuilder()
-                .parseCaseInsensitive()
-                .append(ISO_LOCAL_DATE)
-                .appendLiteral('T')
-                .appendValue(HOUR_OF_DAY, 2)
-                .appendLiteral(':')
-                .appendValue(MINUTE_OF_HOUR, 2)
-                .appendLiteral(':')
-                .appendValue(SECOND_OF_MINUTE, 2)
-                .appendFraction(MILLI_OF_SECOND, 3, 3, true)
-                .appendOffset("+HH:MM", "Z")
-                .toFormatter();
-    }
-
 }
@@ -0,0 +1,109 @@
+package graphql.scalars.datetime;
+
+import graphql.Assert;
+import graphql.PublicApi;
+
+import java.time.OffsetDateTime;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of the `yyyy-MM-ddTHH:mm:ss` part of serialized date time values.
+ * <p>
+ * Values that share the same local second, which is common in event log style results, only need their
+ * milliseconds and offset appended to the cached text.  The cache is direct mapped, so a lookup never
+ * blocks and a new second simply replaces whatever second was held in its slot.
+ * <p>
+ * Pass it to {@link graphql.scalars.ExtendedScalars#newDateTimeScalar(DateTimeSerializationCache)} to create a
+ * `DateTime` scalar that uses it.  The hit and miss counters can be used to check that the cache helps on your traffic.
+ */
+@PublicApi
+public final class DateTimeSerializationCache {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache that holds at most the given number of seconds
+     *
+     * @param maxEntries the maximum number of seconds held, rounded up to a power of two
+     */
+    public DateTimeSerializationCache(int maxEntries) {
+        Assert.assertTrue(maxEntries > 0 && maxEntries <= 1 << 20, () -> "maxEntries must be between 1 and 1048576");
+        int size = Integer.highestOneBit(maxEntries);
+        if (size < maxEntries) {
+            size <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return the number of serializations that used a cached value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of serializations that had to format the value
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0d : (double) hitCount / total;
+    }
+
+    /**
+     * @return the maximum number of seconds held by this cache
+     */
+    public int getMaxEntries() {
+        return entries.length();
+    }
+
+    /**
+     * Removes all cached values and resets the counters
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    String prefixFor(OffsetDateTime value) {
+        long localSecond = value.toLocalDate().toEpochDay() * SECONDS_PER_DAY + value.toLocalTime().toSecondOfDay();
+        int index = (int) ((localSecond * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        Entry entry = entries.get(index);
+        if (entry != null && entry.localSecond == localSecond) {
+            hits.increment();
+            return entry.prefix;
+        }
+        misses.increment();
+        String prefix = OffsetDateTimeCodec.formatPrefix(value);
+        entries.set(index, new Entry(localSecond, prefix));
+        return prefix;
+    }
+
+    private static final class Entry {
+        private final long localSecond;
+        private final String prefix;
+
+        private Entry(long localSecond, String prefix) {
+            this.localSecond = localSecond;
+            this.prefix = prefix;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+import java.time.Duration;
+
+import static graphql.scalars.datetime.CodecKit.isDigit;
+
+/**
+ * A hand written, linear scanner and writer for the `PnDTnHnMn.nS` durations of {@link AccurateDurationScalar}.
+ * <p>
+ * The scanner accepts exactly what {@link Duration#parse(CharSequence)} accepts, including its signs, lower case
+ * letters and ',' as a decimal separator, but does not run a regular expression or allocate any substrings.
+ * When a value is rejected, {@code null} is returned and the caller is expected to fall back to
+ * {@link Duration#parse(CharSequence)} to produce the error message.
+ * <p>
+ * The writer produces the same text as {@link Duration#toString()} straight into a char array.
+ */
+@Internal
+final class DurationCodec {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 60 * SECONDS_PER_MINUTE;
+    private static final int SECONDS_PER_DAY = 24 * SECONDS_PER_HOUR;
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    // PT-2562047788015215H-30M-7.999999999S
+    private static final int MAX_FORMATTED_LENGTH = 40;
+
+    private DurationCodec() {
+    }
+
+    /**
+     * @param s the string to parse
+     *
+     * @return the parsed duration or null if it is not valid
+     */
+    static Duration parse(String s) {
+        int len = s.length();
+        int pos = 0;
+        boolean negate = false;
+        if (len > 0 && (s.charAt(0) == '-' || s.charAt(0) == '+')) {
+            negate = s.charAt(0) == '-';
+            pos++;
+        }
+        if (pos >= len || !isUnit(s.charAt(pos), 'P')) {
+            return null;
+        }
+        pos++;
+        long daysAsSecs = 0;
+        long hoursAsSecs = 0;
+        long minsAsSecs = 0;
+        long secs = 0;
+        int nanos = 0;
+        boolean hasDays = false;
+        boolean hasTime = false;
+        try {
+            // [nD]
+            int end = numberEnd(s, pos);
+            if (end >= 0 && end < len && isUnit(s.charAt(end), 'D')) {
+                daysAsSecs = Math.multiplyExact(Long.parseLong(s, pos, end, 10), SECONDS_PER_DAY);
+                hasDays = true;
+                pos = end + 1;
+            }
+            // [T[nH][nM][n[.f]S]] with at least one of the time parts
+            if (pos < len) {
+                if (!isUnit(s.charAt(pos), 'T')) {
+                    return null;
+                }
+                boolean upperCaseT = s.charAt(pos) == 'T';
+                pos++;
+                end = numberEnd(s, pos);
+                if (end >= 0 && end < len && isUnit(s.charAt(end), 'H')) {
+                    hoursAsSecs = Math.multiplyExact(Long.parseLong(s, pos, end, 10), SECONDS_PER_HOUR);
+                    hasTime = true;
+                    pos = end + 1;
+                    end = numberEnd(s, pos);
+                }
+                if (end >= 0 && end < len && isUnit(s.charAt(end), 'M')) {
+                    minsAsSecs = Math.multiplyExact(Long.parseLong(s, pos, end, 10), SECONDS_PER_MINUTE);
+                    hasTime = true;
+                    pos = end + 1;
+                    end = numberEnd(s, pos);
+                }
+                if (end >= 0) {
+                    int secondsStart = pos;
+                    secs = Long.parseLong(s, pos, end, 10);
+                    pos = end;
+                    if (pos < len && (s.charAt(pos) == '.' || s.charAt(pos) == ',')) {
+                        pos++;
+                        int fractionStart = pos;
+                        while (pos < len && pos - fractionStart < 9 && isDigit(s.charAt(pos))) {
+                            nanos = nanos * 10 + (s.charAt(pos) - '0');
+                            pos++;
+                        }
+                        for (int i = pos - fractionStart; i < 9; i++) {
+                            nanos *= 10;
+                        }
+                        // the fraction takes the sign of the seconds, so PT-0.5S is minus half a second
+                        if (s.charAt(secondsStart) == '-') {
+                            nanos = -nanos;
+                        }
+                    }
+                    if (pos >= len || !isUnit(s.charAt(pos), 'S')) {
+                        return null;
+                    }
+                    hasTime = true;
+                    pos++;
+                }
+                // Duration.parse only rejects an empty time part when the 'T' is upper case
+                if (!hasTime && upperCaseT) {
+                    return null;
+                }
+            }
+            if (pos != len || !(hasDays || hasTime)) {
+                return null;
+            }
+            long seconds = Math.addExact(daysAsSecs, Math.addExact(hoursAsSecs, Math.addExact(minsAsSecs, secs)));
+            Duration duration = Duration.ofSeconds(seconds, nanos);
+            return negate ? duration.negated() : duration;
+        } catch (NumberFormatException | ArithmeticException e) {
+            // out of range, Duration.parse will reject it too
+            return null;
+        }
+    }
+
+    /**
+     * @param duration the duration to format
+     *
+     * @return the same text as {@link Duration#toString()}
+     */
+    static String format(Duration duration) {
+        long seconds = duration.getSeconds();
+        int nanos = duration.getNano();
+        if (seconds == 0 && nanos == 0) {
+            return "PT0S";
+        }
+        // a negative duration with nanos is held as the second before plus a positive nano adjustment
+        long effectiveTotalSecs = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+        long hours = effectiveTotalSecs / SECONDS_PER_HOUR;
+        int minutes = (int) (effectiveTotalSecs % SECONDS_PER_HOUR / SECONDS_PER_MINUTE);
+        int secs = (int) (effectiveTotalSecs % SECONDS_PER_MINUTE);
+
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        buf[0] = 'P';
+        buf[1] = 'T';
+        int pos = 2;
+        if (hours != 0) {
+            pos = writeLong(buf, pos, hours);
+            buf[pos++] = 'H';
+        }
+        if (minutes != 0) {
+            pos = writeLong(buf, pos, minutes);
+            buf[pos++] = 'M';
+        }
+        if (secs == 0 && nanos == 0 && pos > 2) {
+            return new String(buf, 0, pos);
+        }
+        if (seconds < 0 && nanos > 0 && secs == 0) {
+            buf[pos++] = '-';
+            buf[pos++] = '0';
+        } else {
+            pos = writeLong(buf, pos, secs);
+        }
+        if (nanos > 0) {
+            int fraction = seconds < 0 ? NANOS_PER_SECOND - nanos : nanos;
+            int digits = 9;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            buf[pos++] = '.';
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            pos += digits;
+        }
+        buf[pos++] = 'S';
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * @return the end of the `[-+]?[0-9]+` number at the position or -1 if there is none
+     */
+    private static int numberEnd(String s, int pos) {
+        int len = s.length();
+        if (pos < len && (s.charAt(pos) == '-' || s.charAt(pos) == '+')) {
+            pos++;
+        }
+        int digitsStart = pos;
+        while (pos < len && isDigit(s.charAt(pos))) {
+            pos++;
+        }
+        return pos > digitsStart ? pos : -1;
+    }
+
+    private static boolean isUnit(char c, char upperCaseUnit) {
+        return c == upperCaseUnit || c == upperCaseUnit + ('a' - 'A');
+    }
+
+    /**
+     * Writes the value, which must not be {@link Long#MIN_VALUE}, with a leading '-' when negative
+     */
+    private static int writeLong(char[] buf, int pos, long value) {
+        if (value < 0) {
+            buf[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && value >= limit; limit *= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+}
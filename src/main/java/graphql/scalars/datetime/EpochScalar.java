@@ -0,0 +1,295 @@
+package graphql.scalars.datetime;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.IntValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static graphql.scalars.util.Kit.typeName;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#newEpochScalar(String)}
+ */
+@Internal
+public final class EpochScalar {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private EpochScalar() {
+    }
+
+    /**
+     * A builder for {@link graphql.scalars.datetime.EpochScalar}
+     */
+    public static class Builder {
+        private String name;
+        private String description;
+        private ChronoUnit unit = ChronoUnit.SECONDS;
+        private boolean parseToLong;
+
+        /**
+         * Sets the name of the epoch scalar
+         *
+         * @param name the name of the epoch scalar
+         *
+         * @return this builder
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the description of the epoch scalar
+         *
+         * @param description the description of the epoch scalar
+         *
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Sets the unit of the values since epoch, which defaults to {@link ChronoUnit#SECONDS}
+         *
+         * @param unit one of {@link ChronoUnit#SECONDS}, {@link ChronoUnit#MILLIS} or {@link ChronoUnit#NANOS}
+         *
+         * @return this builder
+         */
+        public Builder unit(ChronoUnit unit) {
+            this.unit = unit;
+            return this;
+        }
+
+        /**
+         * Makes parseValue and parseLiteral produce {@link java.time.Instant} objects, which is the default
+         *
+         * @return this builder
+         */
+        public Builder parseToInstant() {
+            this.parseToLong = false;
+            return this;
+        }
+
+        /**
+         * Makes parseValue and parseLiteral produce the raw {@link Long} count of units since epoch
+         *
+         * @return this builder
+         */
+        public Builder parseToLong() {
+            this.parseToLong = true;
+            return this;
+        }
+
+        /**
+         * @return the built {@link EpochScalar}
+         */
+        public GraphQLScalarType build() {
+            Assert.assertNotNull(name);
+            Assert.assertTrue(unit == ChronoUnit.SECONDS || unit == ChronoUnit.MILLIS || unit == ChronoUnit.NANOS,
+                    () -> "The unit must be SECONDS, MILLIS or NANOS but was " + unit);
+            return epochScalarImpl(name, description, unit, parseToLong);
+        }
+    }
+
+    private static GraphQLScalarType epochScalarImpl(String name, String description, ChronoUnit unit, boolean parseToLong) {
+        Coercing<Object, Long> coercing = new Coercing<>() {
+            @Override
+            public Long serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+                if (input instanceof Long) {
+                    return (Long) input;
+                }
+                if (input instanceof Instant) {
+                    return toEpochValue((Instant) input, CoercingSerializeException::new);
+                }
+                if (input instanceof Integer || input instanceof Short || input instanceof Byte) {
+                    return (long) ((Number) input).intValue();
+                }
+                if (input instanceof BigInteger) {
+                    return bigIntegerToLong((BigInteger) input, CoercingSerializeException::new);
+                }
+                if (input instanceof String) {
+                    return parseEpochValue((String) input, CoercingSerializeException::new);
+                }
+                if (input instanceof TemporalAccessor) {
+                    return toEpochValue(toInstant((TemporalAccessor) input), CoercingSerializeException::new);
+                }
+                throw new CoercingSerializeException(
+                        "Expected a 'Long', 'Integer', 'String' or 'TemporalAccessor' but was '" + typeName(input) + "'."
+                );
+            }
+
+            @Override
+            public Object parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+                long epochValue;
+                if (input instanceof Long) {
+                    if (parseToLong) {
+                        return input;
+                    }
+                    epochValue = (Long) input;
+                } else if (input instanceof Integer || input instanceof Short || input instanceof Byte) {
+                    epochValue = ((Number) input).intValue();
+                } else if (input instanceof BigInteger) {
+                    epochValue = bigIntegerToLong((BigInteger) input, CoercingParseValueException::new);
+                } else if (input instanceof String) {
+                    epochValue = parseEpochValue((String) input, CoercingParseValueException::new);
+                } else {
+                    throw new CoercingParseValueException(
+                            "Expected a 'Long', 'Integer' or 'String' but was '" + typeName(input) + "'."
+                    );
+                }
+                return toResult(epochValue, CoercingParseValueException::new);
+            }
+
+            @Override
+            public Object parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+                long epochValue;
+                if (input instanceof IntValue) {
+                    epochValue = bigIntegerToLong(((IntValue) input).getValue(), CoercingParseLiteralException::new);
+                } else if (input instanceof StringValue) {
+                    epochValue = parseEpochValue(((StringValue) input).getValue(), CoercingParseLiteralException::new);
+                } else {
+                    throw new CoercingParseLiteralException(
+                            "Expected AST type 'IntValue' or 'StringValue' but was '" + typeName(input) + "'."
+                    );
+                }
+                return toResult(epochValue, CoercingParseLiteralException::new);
+            }
+
+            @Override
+            public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+                long value = serialize(input, graphQLContext, locale);
+                return IntValue.newIntValue(BigInteger.valueOf(value)).build();
+            }
+
+            private Object toResult(long epochValue, Function<String, RuntimeException> exceptionMaker) {
+                if (parseToLong) {
+                    return epochValue;
+                }
+                switch (unit) {
+                    case SECONDS:
+                        if (epochValue < Instant.MIN.getEpochSecond() || epochValue > Instant.MAX.getEpochSecond()) {
+                            throw exceptionMaker.apply(
+                                    "Invalid '" + name + "' value : '" + epochValue + "'. It is outside the range of an Instant."
+                            );
+                        }
+                        return Instant.ofEpochSecond(epochValue);
+                    case MILLIS:
+                        return Instant.ofEpochMilli(epochValue);
+                    default:
+                        return Instant.ofEpochSecond(Math.floorDiv(epochValue, NANOS_PER_SECOND), Math.floorMod(epochValue, NANOS_PER_SECOND));
+                }
+            }
+
+            private long toEpochValue(Instant instant, Function<String, RuntimeException> exceptionMaker) {
+                try {
+                    switch (unit) {
+                        case SECONDS:
+                            return instant.getEpochSecond();
+                        case MILLIS:
+                            return instant.toEpochMilli();
+                        default:
+                            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+                    }
+                } catch (ArithmeticException e) {
+                    throw exceptionMaker.apply(
+                            "Unable to convert '" + instant + "' to a '" + name + "' value because it does not fit in a long."
+                    );
+                }
+            }
+
+            private Instant toInstant(TemporalAccessor temporalAccessor) {
+                if (temporalAccessor instanceof ZonedDateTime) {
+                    return ((ZonedDateTime) temporalAccessor).toInstant();
+                }
+                if (temporalAccessor instanceof OffsetDateTime) {
+                    return ((OffsetDateTime) temporalAccessor).toInstant();
+                }
+                try {
+                    return Instant.from(temporalAccessor);
+                } catch (DateTimeException e) {
+                    throw new CoercingSerializeException(
+                            "Unable to convert TemporalAccessor to an Instant because of : '" + e.getMessage() + "'."
+                    );
+                }
+            }
+
+            private long bigIntegerToLong(BigInteger value, Function<String, RuntimeException> exceptionMaker) {
+                if (value.bitLength() > 63) {
+                    throw exceptionMaker.apply(
+                            "Invalid '" + name + "' value : '" + value + "'. It does not fit in a long."
+                    );
+                }
+                return value.longValue();
+            }
+
+            /**
+             * Parses an optionally negative string of ASCII digits in a single pass, detecting overflow as it goes
+             */
+            private long parseEpochValue(String value, Function<String, RuntimeException> exceptionMaker) {
+                int len = value.length();
+                boolean negative = len > 0 && value.charAt(0) == '-';
+                int i = negative ? 1 : 0;
+                if (i == len) {
+                    throw exceptionMaker.apply(
+                            "Invalid '" + name + "' value : '" + value + "'. Expected a string containing only digits."
+                    );
+                }
+                // accumulate negatively so that Long.MIN_VALUE can be parsed
+                long result = 0;
+                for (; i < len; i++) {
+                    char c = value.charAt(i);
+                    if (c < '0' || c > '9') {
+                        throw exceptionMaker.apply(
+                                "Invalid '" + name + "' value : '" + value + "'. Expected a string containing only digits."
+                        );
+                    }
+                    int digit = c - '0';
+                    if (result < (Long.MIN_VALUE + digit) / 10) {
+                        throw exceptionMaker.apply(
+                                "Invalid '" + name + "' value : '" + value + "'. It does not fit in a long."
+                        );
+                    }
+                    result = result * 10 - digit;
+                }
+                if (!negative) {
+                    if (result == Long.MIN_VALUE) {
+                        throw exceptionMaker.apply(
+                                "Invalid '" + name + "' value : '" + value + "'. It does not fit in a long."
+                        );
+                    }
+                    result = -result;
+                }
+                return result;
+            }
+        };
+
+        String unitName = unit == ChronoUnit.SECONDS ? "seconds" : unit == ChronoUnit.MILLIS ? "milliseconds" : "nanoseconds";
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description(description != null ? description :
+                        "A point in time as " + unitName + " since the Unix epoch (January 1, 1970, 00:00:00 UTC).")
+                .coercing(coercing)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+
+import static graphql.scalars.datetime.CodecKit.lengthOfMonth;
+import static graphql.scalars.datetime.CodecKit.twoDigits;
+import static graphql.scalars.datetime.CodecKit.writeTwoDigits;
+
+/**
+ * A parser and writer for the fixed 10 character `yyyy-MM-dd` layout used by {@link DateScalar}.
+ * <p>
+ * It gives the same results as {@code DateTimeFormatter.ofPattern("yyyy-MM-dd")} for years 0001 to 9999.  Anything
+ * else, such as signed or expanded years, returns {@code null} so the caller can fall back to the formatter, which
+ * also produces the error messages for rejected values.
+ */
+@Internal
+final class LocalDateCodec {
+
+    private static final int LENGTH = 10;
+
+    private LocalDateCodec() {
+    }
+
+    /**
+     * @param s the string to parse
+     *
+     * @return the parsed date or null if it is not a valid 10 character date
+     */
+    static LocalDate parse(String s) {
+        if (s.length() != LENGTH || s.charAt(4) != '-' || s.charAt(7) != '-') {
+            return null;
+        }
+        int century = twoDigits(s, 0);
+        int yearOfCentury = twoDigits(s, 2);
+        int month = twoDigits(s, 5);
+        int day = twoDigits(s, 8);
+        if (century < 0 || yearOfCentury < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+            return null;
+        }
+        int year = century * 100 + yearOfCentury;
+        // the pattern is year-of-era which starts at 1
+        if (year == 0) {
+            return null;
+        }
+        // the formatter resolves in SMART mode, which moves a day past the end of the month to the last day of the month
+        return LocalDate.of(year, month, Math.min(day, lengthOfMonth(year, month)));
+    }
+
+    /**
+     * @param temporalAccessor the value to format
+     *
+     * @return the formatted date or null if the value is not a common date type with a year from 0001 to 9999
+     */
+    static String format(TemporalAccessor temporalAccessor) {
+        LocalDate date;
+        if (temporalAccessor instanceof LocalDate) {
+            date = (LocalDate) temporalAccessor;
+        } else if (temporalAccessor instanceof OffsetDateTime) {
+            date = ((OffsetDateTime) temporalAccessor).toLocalDate();
+        } else if (temporalAccessor instanceof ZonedDateTime) {
+            date = ((ZonedDateTime) temporalAccessor).toLocalDate();
+        } else if (temporalAccessor instanceof LocalDateTime) {
+            date = ((LocalDateTime) temporalAccessor).toLocalDate();
+        } else {
+            return null;
+        }
+        int year = date.getYear();
+        if (year < 1 || year > 9999) {
+            return null;
+        }
+        char[] buf = new char[LENGTH];
+        writeTwoDigits(buf, 0, year / 100);
+        writeTwoDigits(buf, 2, year % 100);
+        buf[4] = '-';
+        writeTwoDigits(buf, 5, date.getMonthValue());
+        buf[7] = '-';
+        writeTwoDigits(buf, 8, date.getDayOfMonth());
+        return new String(buf);
+    }
+}
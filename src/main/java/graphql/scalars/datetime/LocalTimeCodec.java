@@ -0,0 +1,226 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+
+import static graphql.scalars.datetime.CodecKit.isDigit;
+import static graphql.scalars.datetime.CodecKit.parseOffset;
+import static graphql.scalars.datetime.CodecKit.twoDigits;
+import static graphql.scalars.datetime.CodecKit.writeTwoDigits;
+
+/**
+ * A hand written parser and writer for the `HH:mm[:ss[.fffffffff]]` times of {@link LocalTimeCoercing} and,
+ * followed by an offset, of {@link TimeScalar}.
+ * <p>
+ * The parser accepts exactly what {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME} and
+ * {@link java.time.format.DateTimeFormatter#ISO_OFFSET_TIME} accept and the writer produces the same text as those
+ * formatters, without going through the generic formatter.  When a value is rejected, or is not one of the common
+ * time types, {@code null} is returned and the caller is expected to fall back to the formatter.
+ */
+@Internal
+final class LocalTimeCodec {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MINUTE = 60 * NANOS_PER_SECOND;
+    private static final long NANOS_PER_HOUR = 60 * NANOS_PER_MINUTE;
+    // 23:59:59.999999999+18:00:00
+    private static final int MAX_FORMATTED_LENGTH = 27;
+
+    private LocalTimeCodec() {
+    }
+
+    /**
+     * @param s the `HH:mm[:ss[.fffffffff]]` string to parse
+     *
+     * @return the parsed time or null if it is not valid
+     */
+    static LocalTime parseLocalTime(String s) {
+        long nanoOfDay = parseNanoOfDay(s, 0, s.length());
+        return nanoOfDay < 0 ? null : LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * @param s the `HH:mm[:ss[.fffffffff]]offset` string to parse
+     *
+     * @return the parsed time or null if it is not valid
+     */
+    static OffsetTime parseOffsetTime(String s) {
+        // the time is made of digits, ':' and '.' so the offset starts at the first other character
+        int offsetStart = 0;
+        int len = s.length();
+        while (offsetStart < len && isTimeChar(s.charAt(offsetStart))) {
+            offsetStart++;
+        }
+        long nanoOfDay = parseNanoOfDay(s, 0, offsetStart);
+        if (nanoOfDay < 0) {
+            return null;
+        }
+        int offsetSeconds = parseOffset(s, offsetStart, false);
+        if (offsetSeconds == Integer.MIN_VALUE) {
+            return null;
+        }
+        return OffsetTime.of(LocalTime.ofNanoOfDay(nanoOfDay), ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * @param temporalAccessor the value to format
+     *
+     * @return the `HH:mm:ss[.fffffffff]` string or null if the value is not one of the common time types
+     */
+    static String formatLocalTime(TemporalAccessor temporalAccessor) {
+        LocalTime time = localTimeOf(temporalAccessor);
+        if (time == null) {
+            return null;
+        }
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        int pos = writeLocalTime(buf, time);
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * @param temporalAccessor the value to format
+     *
+     * @return the `HH:mm:ss[.fffffffff]` string followed by `Z` or a `+HH:MM[:ss]` offset, or null if the value
+     * is not one of the common offset time types
+     */
+    static String formatOffsetTime(TemporalAccessor temporalAccessor) {
+        LocalTime time;
+        ZoneOffset offset;
+        if (temporalAccessor instanceof OffsetTime) {
+            time = ((OffsetTime) temporalAccessor).toLocalTime();
+            offset = ((OffsetTime) temporalAccessor).getOffset();
+        } else if (temporalAccessor instanceof OffsetDateTime) {
+            time = ((OffsetDateTime) temporalAccessor).toLocalTime();
+            offset = ((OffsetDateTime) temporalAccessor).getOffset();
+        } else if (temporalAccessor instanceof ZonedDateTime) {
+            time = ((ZonedDateTime) temporalAccessor).toLocalTime();
+            offset = ((ZonedDateTime) temporalAccessor).getOffset();
+        } else {
+            return null;
+        }
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        int pos = writeLocalTime(buf, time);
+        pos = writeOffset(buf, pos, offset.getTotalSeconds());
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * Parses a time that must fill the range from start to end
+     *
+     * @return the nano of day or -1 if it is not valid
+     */
+    private static long parseNanoOfDay(String s, int start, int end) {
+        if (end - start < 5 || s.charAt(start + 2) != ':') {
+            return -1;
+        }
+        int hour = twoDigits(s, start);
+        int minute = twoDigits(s, start + 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1;
+        }
+        int pos = start + 5;
+        int second = 0;
+        int nano = 0;
+        if (pos < end) {
+            if (end - pos < 3 || s.charAt(pos) != ':') {
+                return -1;
+            }
+            second = twoDigits(s, pos + 1);
+            if (second < 0 || second > 59) {
+                return -1;
+            }
+            pos += 3;
+            if (pos < end) {
+                // a '.' with up to 9 digits, the formatter accepts the '.' on its own too
+                if (s.charAt(pos) != '.' || end - pos > 10) {
+                    return -1;
+                }
+                int digits = end - pos - 1;
+                for (pos++; pos < end; pos++) {
+                    char c = s.charAt(pos);
+                    if (!isDigit(c)) {
+                        return -1;
+                    }
+                    nano = nano * 10 + (c - '0');
+                }
+                for (int i = digits; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        return hour * NANOS_PER_HOUR + minute * NANOS_PER_MINUTE + second * NANOS_PER_SECOND + nano;
+    }
+
+    private static LocalTime localTimeOf(TemporalAccessor temporalAccessor) {
+        if (temporalAccessor instanceof LocalTime) {
+            return (LocalTime) temporalAccessor;
+        } else if (temporalAccessor instanceof OffsetTime) {
+            return ((OffsetTime) temporalAccessor).toLocalTime();
+        } else if (temporalAccessor instanceof LocalDateTime) {
+            return ((LocalDateTime) temporalAccessor).toLocalTime();
+        } else if (temporalAccessor instanceof OffsetDateTime) {
+            return ((OffsetDateTime) temporalAccessor).toLocalTime();
+        } else if (temporalAccessor instanceof ZonedDateTime) {
+            return ((ZonedDateTime) temporalAccessor).toLocalTime();
+        }
+        return null;
+    }
+
+    /**
+     * Writes `HH:mm:ss` and, when there are any nanos, a fraction without trailing zeros
+     */
+    private static int writeLocalTime(char[] buf, LocalTime time) {
+        int pos = writeTwoDigits(buf, 0, time.getHour());
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, time.getMinute());
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, time.getSecond());
+        int nano = time.getNano();
+        if (nano == 0) {
+            return pos;
+        }
+        buf[pos++] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buf[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return pos + digits;
+    }
+
+    /**
+     * Writes `Z` or `+HH:MM` with `:ss` appended when the offset has seconds
+     */
+    private static int writeOffset(char[] buf, int pos, int totalSeconds) {
+        if (totalSeconds == 0) {
+            buf[pos] = 'Z';
+            return pos + 1;
+        }
+        int abs = Math.abs(totalSeconds);
+        buf[pos++] = totalSeconds < 0 ? '-' : '+';
+        pos = writeTwoDigits(buf, pos, abs / 3600);
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, abs / 60 % 60);
+        int seconds = abs % 60;
+        if (seconds != 0) {
+            buf[pos++] = ':';
+            pos = writeTwoDigits(buf, pos, seconds);
+        }
+        return pos;
+    }
+
+    private static boolean isTimeChar(char c) {
+        return isDigit(c) || c == ':' || c == '.';
+    }
+}
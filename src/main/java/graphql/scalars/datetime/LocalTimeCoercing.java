@@ -35,6 +35,10 @@ public class LocalTimeCoercing implements Coercing<LocalTime, String> {
                     "Expected a 'String' or 'java.time.temporal.TemporalAccessor' but was '" + typeName(input) + "'."
             );
         }
+        String fastFormat = LocalTimeCodec.formatLocalTime(temporalAccessor);
+        if (fastFormat != null) {
+            return fastFormat;
+        }
         try {
             return DATE_FORMATTER.format(temporalAccessor);
         } catch (DateTimeException e) {
@@ -82,6 +86,11 @@ public class LocalTimeCoercing implements Coercing<LocalTime, String> {
     }
 
     private static LocalTime parseTime(String s, Function<String, RuntimeException> exceptionMaker) {
+        LocalTime fastParse = LocalTimeCodec.parseLocalTime(s);
+        if (fastParse != null) {
+            return fastParse;
+        }
+        // the formatter gives us the reason why the value was rejected
         try {
             TemporalAccessor temporalAccessor = DATE_FORMATTER.parse(s);
             return LocalTime.from(temporalAccessor);
@@ -0,0 +1,143 @@
+package graphql.scalars.datetime;
+
+import graphql.Assert;
+import graphql.PublicApi;
+
+import java.time.Period;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of parsed and serialized `NominalDuration` values.
+ * <p>
+ * Most schemas only ever see a handful of distinct periods, such as `P1M`, `P1Y` or `P7D`.  This cache maps the
+ * strings to their {@link Period} and each {@link Period} to its canonical string, so repeated values skip
+ * {@link Period#parse(CharSequence)} and {@link Period#toString()}.  Both tables are direct mapped and hold at most
+ * {@link #getMaxEntries()} values, a new value simply replaces whatever was held in its slot, and strings longer than
+ * {@value #MAX_KEY_LENGTH} characters are never cached, so hostile input cannot grow memory.
+ * <p>
+ * Pass it to {@link graphql.scalars.ExtendedScalars#newNominalDurationScalar(NominalDurationCache)} to create a
+ * `NominalDuration` scalar that uses it.  The hit and miss counters can be used to check that the cache helps on your traffic.
+ */
+@PublicApi
+public final class NominalDurationCache {
+
+    /**
+     * The longest string that is cached, which is more than any canonical period needs
+     */
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final AtomicReferenceArray<Entry<String, Period>> periods;
+    private final AtomicReferenceArray<Entry<Period, String>> texts;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache that holds at most the given number of parsed and of serialized values
+     *
+     * @param maxEntries the maximum number of values held, rounded up to a power of two
+     */
+    public NominalDurationCache(int maxEntries) {
+        Assert.assertTrue(maxEntries > 0 && maxEntries <= 1 << 16, () -> "maxEntries must be between 1 and 65536");
+        int size = Integer.highestOneBit(maxEntries);
+        if (size < maxEntries) {
+            size <<= 1;
+        }
+        this.periods = new AtomicReferenceArray<>(size);
+        this.texts = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return the number of parses and serializations that used a cached value
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of parses and serializations that had to do the work
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0d : (double) hitCount / total;
+    }
+
+    /**
+     * @return the maximum number of parsed values, and of serialized values, held by this cache
+     */
+    public int getMaxEntries() {
+        return periods.length();
+    }
+
+    /**
+     * Removes all cached values and resets the counters
+     */
+    public void clear() {
+        for (int i = 0; i < periods.length(); i++) {
+            periods.set(i, null);
+            texts.set(i, null);
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * @return the parsed period, values that do not parse are not cached and throw as {@link Period#parse(CharSequence)} does
+     */
+    Period parse(String s) {
+        if (s.length() > MAX_KEY_LENGTH) {
+            misses.increment();
+            return Period.parse(s);
+        }
+        int index = indexFor(s.hashCode());
+        Entry<String, Period> entry = periods.get(index);
+        if (entry != null && entry.key.equals(s)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        Period period = Period.parse(s);
+        periods.set(index, new Entry<>(s, period));
+        return period;
+    }
+
+    /**
+     * @return the same text as {@link Period#toString()}
+     */
+    String format(Period period) {
+        int index = indexFor(period.hashCode());
+        Entry<Period, String> entry = texts.get(index);
+        if (entry != null && entry.key.equals(period)) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        String text = period.toString();
+        texts.set(index, new Entry<>(period, text));
+        return text;
+    }
+
+    private int indexFor(int hashCode) {
+        return (hashCode ^ (hashCode >>> 16)) & mask;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final V value;
+
+        private Entry(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -24,12 +24,19 @@ import static graphql.scalars.util.Kit.typeName;
 @Internal
 public class NominalDurationScalar {
 
-    public static final GraphQLScalarType INSTANCE;
+    public static final GraphQLScalarType INSTANCE = newNominalDurationScalar(null);
 
     private NominalDurationScalar() {
     }
 
-    static {
+    /**
+     * Creates a `NominalDuration` scalar that takes repeated values from the cache
+     *
+     * @param cache the cache to use or null to parse and format every value
+     *
+     * @return the new scalar
+     */
+    public static GraphQLScalarType newNominalDurationScalar(NominalDurationCache cache) {
         Coercing<Period, String> coercing = new Coercing<>() {
             @Override
             public String serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
@@ -43,6 +50,9 @@ public class NominalDurationScalar {
                             "Expected something we can convert to 'java.time.OffsetDateTime' but was '" + typeName(input) + "'."
                     );
                 }
+                if (cache != null) {
+                    return cache.format(period);
+                }
                 return period.toString();
             }
 
@@ -79,6 +89,9 @@ public class NominalDurationScalar {
 
             private Period parsePeriod(String s, Function<String, RuntimeException> exceptionMaker) {
                 try {
+                    if (cache != null) {
+                        return cache.parse(s);
+                    }
                     return Period.parse(s);
                 } catch (DateTimeParseException e) {
                     throw exceptionMaker.apply("Invalid ISO 8601 value : '" + s + "'. because of : '" + e.getMessage() + "'");
@@ -86,7 +99,7 @@ public class NominalDurationScalar {
             }
         };
 
-        INSTANCE = GraphQLScalarType.newScalar()
+        return GraphQLScalarType.newScalar()
                 .name("NominalDuration")
                 .description("A ISO 8601 duration with only year, month, week and day components.")
                 .specifiedByUrl("https://scalars.graphql.org/AlexandreCarlton/nominal-duration") // TODO: Change to .specifiedByURL when builder added to graphql-java
@@ -0,0 +1,230 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static graphql.scalars.datetime.CodecKit.isDigit;
+import static graphql.scalars.datetime.CodecKit.lengthOfMonth;
+import static graphql.scalars.datetime.CodecKit.parseOffset;
+import static graphql.scalars.datetime.CodecKit.twoDigits;
+import static graphql.scalars.datetime.CodecKit.writeTwoDigits;
+
+/**
+ * A hand written, single pass parser and writer for the date time strings of {@link DateTimeScalar}.
+ * <p>
+ * The parser accepts exactly what {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME} accepts, without going
+ * through the generic formatter resolver, so the only object allocated on the happy path is the resulting
+ * {@link OffsetDateTime}.  When a value is rejected, {@code null} is returned and the caller is expected to
+ * fall back to the formatter to produce the error message.
+ * <p>
+ * The writer produces the `yyyy-MM-ddTHH:mm:ss.SSS` plus `+HH:MM` or `Z` output of the scalar straight into a char array.
+ */
+@Internal
+final class OffsetDateTimeCodec {
+
+    private static final int MAX_YEAR = 999_999_999;
+    // +999999999-12-31T23:59:59.999+18:00
+    private static final int MAX_FORMATTED_LENGTH = 35;
+
+    private OffsetDateTimeCodec() {
+    }
+
+    /**
+     * Parses a `yyyy-MM-ddTHH:mm[:ss[.fffffffff]]offset` value
+     *
+     * @param s the string to parse
+     *
+     * @return the parsed value or null if it is not valid
+     */
+    static OffsetDateTime parse(String s) {
+        int len = s.length();
+        if (len == 0) {
+            return null;
+        }
+        // the year has 4 digits, more than 4 digits need a leading '+'
+        int pos = 0;
+        char sign = s.charAt(0);
+        if (sign == '+' || sign == '-') {
+            pos++;
+        }
+        int yearStart = pos;
+        long year = 0;
+        while (pos < len && pos - yearStart < 10 && isDigit(s.charAt(pos))) {
+            year = year * 10 + (s.charAt(pos) - '0');
+            pos++;
+        }
+        int yearDigits = pos - yearStart;
+        if (yearDigits < 4 || year > MAX_YEAR) {
+            return null;
+        }
+        if (sign == '-') {
+            if (year == 0) {
+                return null;
+            }
+            year = -year;
+        } else if (sign == '+' ? yearDigits == 4 : yearDigits > 4) {
+            return null;
+        }
+        // -MM-ddTHH:mm followed by at least one offset character
+        if (pos + 13 > len || s.charAt(pos) != '-' || s.charAt(pos + 3) != '-' || !isT(s.charAt(pos + 6))) {
+            return null;
+        }
+        int month = twoDigits(s, pos + 1);
+        int day = twoDigits(s, pos + 4);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth((int) year, month)) {
+            return null;
+        }
+        // HH:mm
+        pos += 7;
+        if (s.charAt(pos + 2) != ':') {
+            return null;
+        }
+        int hour = twoDigits(s, pos);
+        int minute = twoDigits(s, pos + 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return null;
+        }
+        pos += 5;
+        // [:ss[.fffffffff]]
+        int second = 0;
+        int nano = 0;
+        if (s.charAt(pos) == ':') {
+            if (pos + 3 > len) {
+                return null;
+            }
+            second = twoDigits(s, pos + 1);
+            if (second < 0 || second > 59) {
+                return null;
+            }
+            pos += 3;
+            if (pos < len && s.charAt(pos) == '.') {
+                pos++;
+                int fractionStart = pos;
+                while (pos < len && pos - fractionStart < 9 && isDigit(s.charAt(pos))) {
+                    nano = nano * 10 + (s.charAt(pos) - '0');
+                    pos++;
+                }
+                for (int i = pos - fractionStart; i < 9; i++) {
+                    nano *= 10;
+                }
+            }
+        }
+        int offsetSeconds = parseOffset(s, pos, true);
+        if (offsetSeconds == Integer.MIN_VALUE) {
+            return null;
+        }
+        return OffsetDateTime.of((int) year, month, day, hour, minute, second, nano, ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    /**
+     * Formats the value as `yyyy-MM-ddTHH:mm:ss.SSS` followed by `Z` or a `+HH:MM` offset.  Years outside of
+     * 0000 to 9999 are written with a sign, as ISO_LOCAL_DATE does.
+     *
+     * @param value the value to format
+     *
+     * @return the formatted value
+     */
+    static String format(OffsetDateTime value) {
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        int pos = writePrefix(buf, value);
+        pos = writeMillisAndOffset(buf, pos, value);
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * Formats the value like {@link #format(OffsetDateTime)} but takes the `yyyy-MM-ddTHH:mm:ss` part from the cache
+     *
+     * @param value the value to format
+     * @param cache the cache of formatted seconds
+     *
+     * @return the formatted value
+     */
+    static String format(OffsetDateTime value, DateTimeSerializationCache cache) {
+        String prefix = cache.prefixFor(value);
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        int pos = prefix.length();
+        prefix.getChars(0, pos, buf, 0);
+        pos = writeMillisAndOffset(buf, pos, value);
+        return new String(buf, 0, pos);
+    }
+
+    /**
+     * @return the `yyyy-MM-ddTHH:mm:ss` part of the formatted value
+     */
+    static String formatPrefix(OffsetDateTime value) {
+        char[] buf = new char[MAX_FORMATTED_LENGTH];
+        int pos = writePrefix(buf, value);
+        return new String(buf, 0, pos);
+    }
+
+    private static int writePrefix(char[] buf, OffsetDateTime value) {
+        int pos = writeYear(buf, 0, value.getYear());
+        buf[pos++] = '-';
+        pos = writeTwoDigits(buf, pos, value.getMonthValue());
+        buf[pos++] = '-';
+        pos = writeTwoDigits(buf, pos, value.getDayOfMonth());
+        buf[pos++] = 'T';
+        pos = writeTwoDigits(buf, pos, value.getHour());
+        buf[pos++] = ':';
+        pos = writeTwoDigits(buf, pos, value.getMinute());
+        buf[pos++] = ':';
+        return writeTwoDigits(buf, pos, value.getSecond());
+    }
+
+    private static int writeMillisAndOffset(char[] buf, int pos, OffsetDateTime value) {
+        buf[pos++] = '.';
+        int millis = value.getNano() / 1_000_000;
+        buf[pos++] = (char) ('0' + millis / 100);
+        buf[pos++] = (char) ('0' + millis / 10 % 10);
+        buf[pos++] = (char) ('0' + millis % 10);
+        return writeOffset(buf, pos, value.getOffset().getTotalSeconds());
+    }
+
+    /**
+     * Writes the year with at least 4 digits, a '-' when negative and a '+' when it has more than 4 digits.
+     */
+    static int writeYear(char[] buf, int pos, int year) {
+        int abs = Math.abs(year);
+        if (year < 0) {
+            buf[pos++] = '-';
+        } else if (abs > 9999) {
+            buf[pos++] = '+';
+        }
+        if (abs > 9999) {
+            int digits = 5;
+            for (int limit = 100_000; digits < 10 && abs >= limit; limit *= 10) {
+                digits++;
+            }
+            for (int i = pos + digits - 1; i >= pos; i--) {
+                buf[i] = (char) ('0' + abs % 10);
+                abs /= 10;
+            }
+            return pos + digits;
+        }
+        pos = writeTwoDigits(buf, pos, abs / 100);
+        return writeTwoDigits(buf, pos, abs % 100);
+    }
+
+    /**
+     * Writes `Z` or `+HH:MM`, any seconds of the offset are not written, so an offset of less than a minute is `Z`
+     */
+    private static int writeOffset(char[] buf, int pos, int totalSeconds) {
+        int abs = Math.abs(totalSeconds);
+        int hours = abs / 3600;
+        int minutes = abs / 60 % 60;
+        if (hours == 0 && minutes == 0) {
+            buf[pos] = 'Z';
+            return pos + 1;
+        }
+        buf[pos++] = totalSeconds < 0 ? '-' : '+';
+        pos = writeTwoDigits(buf, pos, hours);
+        buf[pos++] = ':';
+        return writeTwoDigits(buf, pos, minutes);
+    }
+
+    private static boolean isT(char c) {
+        return c == 'T' || c == 't';
+    }
+}
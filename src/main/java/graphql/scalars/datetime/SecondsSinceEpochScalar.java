@@ -20,6 +20,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.util.Locale;
+import java.util.function.Function;
 
 import static graphql.scalars.util.Kit.typeName;
 
@@ -29,28 +30,54 @@ import static graphql.scalars.util.Kit.typeName;
 @Internal
 public final class SecondsSinceEpochScalar {
 
+    // the range that ZonedDateTime can hold
+    private static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
     public static final GraphQLScalarType INSTANCE;
 
     private SecondsSinceEpochScalar() {
     }
 
-    private static Temporal convertToTemporal(String value) {
-        try {
-            if (value.matches("\\d+")) {
-                long epochSeconds = Long.parseLong(value);
-                return convertEpochSecondsToTemporal(epochSeconds);
-            }
-            throw new CoercingParseValueException(
+    private static Temporal convertToTemporal(String value, Function<String, RuntimeException> exceptionMaker) {
+        return convertEpochSecondsToTemporal(parseEpochSeconds(value, exceptionMaker), exceptionMaker);
+    }
+
+    /**
+     * Parses a string of ASCII digits in a single pass, detecting overflow as it goes
+     */
+    private static long parseEpochSeconds(String value, Function<String, RuntimeException> exceptionMaker) {
+        int len = value.length();
+        if (len == 0) {
+            throw exceptionMaker.apply(
                     "Invalid seconds since epoch value : '" + value + "'. Expected a string containing only digits."
             );
-        } catch (Exception e) {
-            throw new CoercingParseValueException(
-                    "Invalid seconds since epoch value : '" + value + "'. " + e.getMessage()
-            );
         }
+        long epochSeconds = 0;
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                throw exceptionMaker.apply(
+                        "Invalid seconds since epoch value : '" + value + "'. Expected a string containing only digits."
+                );
+            }
+            int digit = c - '0';
+            if (epochSeconds > (MAX_EPOCH_SECOND - digit) / 10) {
+                throw exceptionMaker.apply(
+                        "Invalid seconds since epoch value : '" + value + "'. Expected at most " + MAX_EPOCH_SECOND + " seconds."
+                );
+            }
+            epochSeconds = epochSeconds * 10 + digit;
+        }
+        return epochSeconds;
     }
 
-    private static Temporal convertEpochSecondsToTemporal(long epochSeconds) {
+    private static Temporal convertEpochSecondsToTemporal(long epochSeconds, Function<String, RuntimeException> exceptionMaker) {
+        if (epochSeconds < MIN_EPOCH_SECOND || epochSeconds > MAX_EPOCH_SECOND) {
+            throw exceptionMaker.apply(
+                    "Invalid seconds since epoch value : '" + epochSeconds + "'. Expected between " + MIN_EPOCH_SECOND + " and " + MAX_EPOCH_SECOND + " seconds."
+            );
+        }
         return Instant.ofEpochSecond(epochSeconds).atZone(ZoneOffset.UTC);
     }
 
@@ -112,49 +139,33 @@ public final class SecondsSinceEpochScalar {
 
             @Override
             public TemporalAccessor parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
-                try {
-                    if (input instanceof Number) {
-                        Number number = (Number) input;
-                        return convertEpochSecondsToTemporal(number.longValue());
-                    }
-                    if (input instanceof String) {
-                        String string = (String) input;
-                        return convertToTemporal(string);
-                    }
-                    throw new CoercingParseValueException(
-                            "Expected a 'Number' or 'String' but was '" + typeName(input) + "'."
-                    );
-                } catch (CoercingParseValueException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new CoercingParseValueException(
-                            "Unable to parse value to seconds since epoch because of : '" + e.getMessage() + "'."
-                    );
+                if (input instanceof Number) {
+                    Number number = (Number) input;
+                    return convertEpochSecondsToTemporal(number.longValue(), CoercingParseValueException::new);
+                }
+                if (input instanceof String) {
+                    String string = (String) input;
+                    return convertToTemporal(string, CoercingParseValueException::new);
                 }
+                throw new CoercingParseValueException(
+                        "Expected a 'Number' or 'String' but was '" + typeName(input) + "'."
+                );
             }
 
             @Override
             public TemporalAccessor parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
-                try {
-                    if (input instanceof StringValue) {
-                        StringValue stringValue = (StringValue) input;
-                        return convertToTemporal(stringValue.getValue());
-                    }
-                    if (input instanceof IntValue) {
-                        IntValue intValue = (IntValue) input;
-                        long epochSeconds = intValue.getValue().longValue();
-                        return convertEpochSecondsToTemporal(epochSeconds);
-                    }
-                    throw new CoercingParseLiteralException(
-                            "Expected AST type 'StringValue' or 'IntValue' but was '" + typeName(input) + "'."
-                    );
-                } catch (CoercingParseLiteralException e) {
-                    throw e;
-                } catch (Exception e) {
-                    throw new CoercingParseLiteralException(
-                            "Unable to parse literal to seconds since epoch because of : '" + e.getMessage() + "'."
-                    );
+                if (input instanceof StringValue) {
+                    StringValue stringValue = (StringValue) input;
+                    return convertToTemporal(stringValue.getValue(), CoercingParseLiteralException::new);
+                }
+                if (input instanceof IntValue) {
+                    IntValue intValue = (IntValue) input;
+                    long epochSeconds = intValue.getValue().longValue();
+                    return convertEpochSecondsToTemporal(epochSeconds, CoercingParseLiteralException::new);
                 }
+                throw new CoercingParseLiteralException(
+                        "Expected AST type 'StringValue' or 'IntValue' but was '" + typeName(input) + "'."
+                );
             }
 
             @Override
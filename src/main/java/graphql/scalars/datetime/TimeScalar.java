@@ -48,6 +48,10 @@ public final class TimeScalar {
                             "Expected a 'String' or 'java.time.temporal.TemporalAccessor' but was '" + typeName(input) + "'."
                     );
                 }
+                String fastFormat = LocalTimeCodec.formatOffsetTime(temporalAccessor);
+                if (fastFormat != null) {
+                    return fastFormat;
+                }
                 try {
                     return dateFormatter.format(temporalAccessor);
                 } catch (DateTimeException e) {
@@ -95,6 +99,11 @@ public final class TimeScalar {
             }
 
             private OffsetTime parseOffsetTime(String s, Function<String, RuntimeException> exceptionMaker) {
+                OffsetTime fastParse = LocalTimeCodec.parseOffsetTime(s);
+                if (fastParse != null) {
+                    return fastParse;
+                }
+                // the formatter gives us the reason why the value was rejected
                 try {
                     TemporalAccessor temporalAccessor = dateFormatter.parse(s);
                     return OffsetTime.from(temporalAccessor);
@@ -0,0 +1,174 @@
+package graphql.scalars.datetime;
+
+import graphql.Internal;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAccessor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static graphql.scalars.datetime.CodecKit.twoDigits;
+import static graphql.scalars.datetime.CodecKit.writeTwoDigits;
+
+/**
+ * Lookup tables for the `yyyy` and `yyyy-MM` values of {@link YearScalar} and {@link YearMonthScalar}.
+ * <p>
+ * The four digit years 0001 to 9999 are a small domain, so each year and its twelve months are created once,
+ * on first use, together with their canonical strings.  Parsing and serializing a value in that range is then an
+ * array lookup.  Values outside of it return {@code null} so the caller can fall back to its formatter.
+ */
+@Internal
+final class YearCodec {
+
+    private static final int MAX_YEAR = 9999;
+
+    private static final AtomicReferenceArray<YearEntry> YEARS = new AtomicReferenceArray<>(MAX_YEAR + 1);
+    private static final AtomicReferenceArray<YearMonthRow> YEAR_MONTHS = new AtomicReferenceArray<>(MAX_YEAR + 1);
+
+    private YearCodec() {
+    }
+
+    /**
+     * @param s the `yyyy` string to parse
+     *
+     * @return the year or null if it is not a four digit year from 0001 to 9999
+     */
+    static Year parseYear(String s) {
+        if (s.length() != 4) {
+            return null;
+        }
+        int year = parseFourDigitYear(s);
+        return year > 0 ? yearEntry(year).year : null;
+    }
+
+    /**
+     * @param temporalAccessor the value to format
+     *
+     * @return the `yyyy` string or null if the value is not a year, year month or date from 0001 to 9999
+     */
+    static String formatYear(TemporalAccessor temporalAccessor) {
+        int year = yearOf(temporalAccessor);
+        return year > 0 ? yearEntry(year).text : null;
+    }
+
+    /**
+     * @param s the `yyyy-MM` string to parse
+     *
+     * @return the year month or null if it is not a four digit year from 0001 to 9999 and a valid month
+     */
+    static YearMonth parseYearMonth(String s) {
+        if (s.length() != 7 || s.charAt(4) != '-') {
+            return null;
+        }
+        int year = parseFourDigitYear(s);
+        int month = twoDigits(s, 5);
+        if (year <= 0 || month < 1 || month > 12) {
+            return null;
+        }
+        return yearMonthRow(year).values[month - 1];
+    }
+
+    /**
+     * @param temporalAccessor the value to format
+     *
+     * @return the `yyyy-MM` string or null if the value is not a year month or date from 0001 to 9999
+     */
+    static String formatYearMonth(TemporalAccessor temporalAccessor) {
+        int year;
+        int month;
+        if (temporalAccessor instanceof YearMonth) {
+            year = ((YearMonth) temporalAccessor).getYear();
+            month = ((YearMonth) temporalAccessor).getMonthValue();
+        } else if (temporalAccessor instanceof LocalDate) {
+            year = ((LocalDate) temporalAccessor).getYear();
+            month = ((LocalDate) temporalAccessor).getMonthValue();
+        } else {
+            return null;
+        }
+        if (year < 1 || year > MAX_YEAR) {
+            return null;
+        }
+        return yearMonthRow(year).texts[month - 1];
+    }
+
+    /**
+     * @return the year of the first four characters, 0 when they are not digits
+     */
+    private static int parseFourDigitYear(String s) {
+        int century = twoDigits(s, 0);
+        int yearOfCentury = twoDigits(s, 2);
+        if (century < 0 || yearOfCentury < 0) {
+            return 0;
+        }
+        return century * 100 + yearOfCentury;
+    }
+
+    /**
+     * @return the year of the value, or 0 if it is not a supported type in the range of the tables
+     */
+    private static int yearOf(TemporalAccessor temporalAccessor) {
+        int year;
+        if (temporalAccessor instanceof Year) {
+            year = ((Year) temporalAccessor).getValue();
+        } else if (temporalAccessor instanceof YearMonth) {
+            year = ((YearMonth) temporalAccessor).getYear();
+        } else if (temporalAccessor instanceof LocalDate) {
+            year = ((LocalDate) temporalAccessor).getYear();
+        } else {
+            return 0;
+        }
+        return year >= 1 && year <= MAX_YEAR ? year : 0;
+    }
+
+    // two threads may both create an entry for the same year, which is harmless since they are equal
+    private static YearEntry yearEntry(int year) {
+        YearEntry entry = YEARS.get(year);
+        if (entry == null) {
+            entry = new YearEntry(year);
+            YEARS.set(year, entry);
+        }
+        return entry;
+    }
+
+    private static YearMonthRow yearMonthRow(int year) {
+        YearMonthRow row = YEAR_MONTHS.get(year);
+        if (row == null) {
+            row = new YearMonthRow(year);
+            YEAR_MONTHS.set(year, row);
+        }
+        return row;
+    }
+
+    private static char[] fourDigitYear(int year, int length) {
+        char[] buf = new char[length];
+        writeTwoDigits(buf, 0, year / 100);
+        writeTwoDigits(buf, 2, year % 100);
+        return buf;
+    }
+
+    private static final class YearEntry {
+        private final Year year;
+        private final String text;
+
+        private YearEntry(int year) {
+            this.year = Year.of(year);
+            this.text = new String(fourDigitYear(year, 4));
+        }
+    }
+
+    private static final class YearMonthRow {
+        private final YearMonth[] values = new YearMonth[12];
+        private final String[] texts = new String[12];
+
+        private YearMonthRow(int year) {
+            char[] buf = fourDigitYear(year, 7);
+            buf[4] = '-';
+            for (int month = 1; month <= 12; month++) {
+                values[month - 1] = YearMonth.of(year, month);
+                writeTwoDigits(buf, 5, month);
+                texts[month - 1] = new String(buf);
+            }
+        }
+    }
+}
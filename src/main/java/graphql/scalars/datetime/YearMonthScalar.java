@@ -48,6 +48,10 @@ public final class YearMonthScalar {
                             "Expected a 'String' or 'java.time.temporal.TemporalAccessor' but was '" + typeName(input) + "'."
                     );
                 }
+                String fastFormat = YearCodec.formatYearMonth(temporalAccessor);
+                if (fastFormat != null) {
+                    return fastFormat;
+                }
                 try {
                     return DATE_FORMATTER.format(temporalAccessor);
                 } catch (DateTimeException e) {
@@ -95,6 +99,11 @@ public final class YearMonthScalar {
             }
 
             private YearMonth parseYearMonth(String s, Function<String, RuntimeException> exceptionMaker) {
+                YearMonth fastParse = YearCodec.parseYearMonth(s);
+                if (fastParse != null) {
+                    return fastParse;
+                }
+                // the formatter gives us the reason why the value was rejected
                 try {
                     TemporalAccessor temporalAccessor = DATE_FORMATTER.parse(s);
                     return YearMonth.from(temporalAccessor);
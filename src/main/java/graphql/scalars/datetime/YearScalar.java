@@ -48,6 +48,10 @@ public final class YearScalar {
                             "Expected a 'String' or 'java.time.temporal.TemporalAccessor' but was '" + typeName(input) + "'."
                     );
                 }
+                String fastFormat = YearCodec.formatYear(temporalAccessor);
+                if (fastFormat != null) {
+                    return fastFormat;
+                }
                 try {
                     return DATE_FORMATTER.format(temporalAccessor);
                 } catch (DateTimeException e) {
@@ -95,6 +99,11 @@ public final class YearScalar {
             }
 
             private Year parseYear(String s, Function<String, RuntimeException> exceptionMaker) {
+                Year fastParse = YearCodec.parseYear(s);
+                if (fastParse != null) {
+                    return fastParse;
+                }
+                // the formatter gives us the reason why the value was rejected
                 try {
                     TemporalAccessor temporalAccessor = DATE_FORMATTER.parse(s);
                     return Year.from(temporalAccessor);
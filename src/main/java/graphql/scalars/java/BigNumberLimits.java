@@ -0,0 +1,177 @@
+package graphql.scalars.java;
+
+import graphql.Internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.function.Function;
+
+/**
+ * The size limits of a BigDecimal or BigInteger scalar.
+ * <p>
+ * A number like {@code 1e999999999} is a few bytes of input but turning it into a BigInteger, or printing it as
+ * a plain string, takes a very long time. The limits are checked on the string form of a number before any
+ * BigDecimal or BigInteger is constructed, and on the precision and scale of numbers that are already big.
+ */
+@Internal
+final class BigNumberLimits {
+
+    static final BigNumberLimits NONE = new BigNumberLimits(null, false, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // exponents are only scanned up to this value, anything larger is rejected by any limit
+    private static final long MAX_SCANNED_EXPONENT = 1L << 40;
+    private static final double LOG10_2 = 0.30102999566398120;
+
+    private final String typeName;
+    private final boolean integer;
+    private final int maxDigits;
+    private final int maxScale;
+    private final int maxExponent;
+    private final boolean unlimited;
+
+    /**
+     * For an integer scalar maxDigits bounds the number of digits of the integer, which for a value like
+     * {@code 1e999999999} is far more than its precision.
+     */
+    BigNumberLimits(String typeName, boolean integer, int maxDigits, int maxScale, int maxExponent) {
+        this.typeName = typeName;
+        this.integer = integer;
+        this.maxDigits = maxDigits;
+        this.maxScale = maxScale;
+        this.maxExponent = maxExponent;
+        this.unlimited = maxDigits == Integer.MAX_VALUE && maxScale == Integer.MAX_VALUE && maxExponent == Integer.MAX_VALUE;
+    }
+
+    /**
+     * Checks a runtime value, which is either already a big number or is converted from its string form
+     */
+    void check(Object input, Function<String, RuntimeException> exceptionMaker) {
+        if (unlimited) {
+            return;
+        }
+        if (input instanceof BigDecimal) {
+            check((BigDecimal) input, exceptionMaker);
+        } else if (input instanceof BigInteger) {
+            check((BigInteger) input, exceptionMaker);
+        } else {
+            check(input.toString(), exceptionMaker);
+        }
+    }
+
+    /**
+     * Checks the size of a number in its string form, before it is turned into a BigDecimal. It follows the
+     * grammar of {@link BigDecimal#BigDecimal(String)}, and strings that are not numbers are left to that
+     * constructor to reject.
+     */
+    void check(String value, Function<String, RuntimeException> exceptionMaker) {
+        if (unlimited) {
+            return;
+        }
+        int len = value.length();
+        int i = 0;
+        if (i < len && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+            i++;
+        }
+        long digits = 0;
+        long significantDigits = 0;
+        long fractionDigits = 0;
+        boolean fraction = false;
+        for (; i < len; i++) {
+            char c = value.charAt(i);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+            int digit = Character.digit(c, 10);
+            if (digit < 0) {
+                break;
+            }
+            digits++;
+            if (significantDigits > 0 || digit != 0) {
+                significantDigits++;
+            }
+            if (fraction) {
+                fractionDigits++;
+            }
+        }
+        if (digits == 0) {
+            return;
+        }
+        long exponent = 0;
+        if (i < len) {
+            char c = value.charAt(i++);
+            if (c != 'e' && c != 'E') {
+                return;
+            }
+            boolean negative = false;
+            if (i < len && (value.charAt(i) == '+' || value.charAt(i) == '-')) {
+                negative = value.charAt(i++) == '-';
+            }
+            if (i == len) {
+                return;
+            }
+            for (; i < len; i++) {
+                int digit = Character.digit(value.charAt(i), 10);
+                if (digit < 0) {
+                    return;
+                }
+                exponent = Math.min(exponent * 10 + digit, MAX_SCANNED_EXPONENT);
+            }
+            if (negative) {
+                exponent = -exponent;
+            }
+        }
+        // a zero still has a precision of one, just like BigDecimal
+        check(Math.max(significantDigits, 1), fractionDigits - exponent, exceptionMaker);
+    }
+
+    /**
+     * Checks a number that is already a BigDecimal, for example one parsed by the GraphQL parser
+     */
+    void check(BigDecimal value, Function<String, RuntimeException> exceptionMaker) {
+        if (unlimited) {
+            return;
+        }
+        // a value of b bits has more than floor((b - 1) * log10(2)) digits, so huge values are rejected before
+        // their exact precision is computed
+        int bitLength = value.unscaledValue().bitLength();
+        if (bitLength > 0 && (long) ((bitLength - 1) * LOG10_2) >= maxDigits) {
+            throw exceptionMaker.apply(
+                    "Expected type '" + typeName + "' with at most " + maxDigits + " digits but it had more."
+            );
+        }
+        check(value.precision(), value.scale(), exceptionMaker);
+    }
+
+    /**
+     * Checks a number that is already a BigInteger, for example one parsed by the GraphQL parser
+     */
+    void check(BigInteger value, Function<String, RuntimeException> exceptionMaker) {
+        if (unlimited) {
+            return;
+        }
+        check(new BigDecimal(value), exceptionMaker);
+    }
+
+    private void check(long precision, long scale, Function<String, RuntimeException> exceptionMaker) {
+        // the digits of an integer include the zeros that a negative scale adds
+        long digits = integer ? Math.max(precision, precision - scale) : precision;
+        if (digits > maxDigits) {
+            throw exceptionMaker.apply(
+                    "Expected type '" + typeName + "' with at most " + maxDigits + " digits but it had " + digits + "."
+            );
+        }
+        if (Math.abs(scale) > maxScale) {
+            throw exceptionMaker.apply(
+                    "Expected type '" + typeName + "' with a scale of at most " + maxScale + " but it was " + scale + "."
+            );
+        }
+        // the exponent of the value in scientific notation
+        long exponent = precision - 1 - scale;
+        if (Math.abs(exponent) > maxExponent) {
+            throw exceptionMaker.apply(
+                    "Expected type '" + typeName + "' with an exponent of at most " + maxExponent + " but it was " + exponent + "."
+            );
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package graphql.scalars.java;
+
+import graphql.Assert;
+import graphql.Internal;
+import graphql.schema.GraphQLScalarType;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#newBigDecimalScalar(String)} or
+ * {@link graphql.scalars.ExtendedScalars#newBigIntegerScalar(String)}
+ */
+@Internal
+public final class BigNumberScalar {
+
+    private BigNumberScalar() {
+    }
+
+    /**
+     * @param name the name of the scalar
+     *
+     * @return a builder of a BigDecimal scalar with size limits
+     */
+    public static Builder newBigDecimalScalar(String name) {
+        return new Builder(name, false);
+    }
+
+    /**
+     * @param name the name of the scalar
+     *
+     * @return a builder of a BigInteger scalar with size limits
+     */
+    public static Builder newBigIntegerScalar(String name) {
+        return new Builder(name, true);
+    }
+
+    /**
+     * A builder for BigDecimal and BigInteger scalars with size limits
+     */
+    public static class Builder {
+        private final boolean bigInteger;
+        private String name;
+        private String description;
+        private int maxDigits = Integer.MAX_VALUE;
+        private int maxScale = Integer.MAX_VALUE;
+        private int maxExponent = Integer.MAX_VALUE;
+
+        private Builder(String name, boolean bigInteger) {
+            this.name = name;
+            this.bigInteger = bigInteger;
+        }
+
+        /**
+         * Sets the name of the scalar
+         *
+         * @param name the name of the scalar
+         *
+         * @return this builder
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        /**
+         * Sets the description of the scalar
+         *
+         * @param description the description of the scalar
+         *
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of significant digits of a value, which is its {@link java.math.BigDecimal#precision()}.
+         * For BigInteger scalars it is the maximum number of digits of the integer, so {@code 1e40} has 41 digits.
+         *
+         * @param maxDigits the maximum number of digits
+         *
+         * @return this builder
+         */
+        public Builder maxDigits(int maxDigits) {
+            this.maxDigits = maxDigits;
+            return this;
+        }
+
+        /**
+         * Sets the maximum absolute {@link java.math.BigDecimal#scale()} of a value. A positive scale is the number of
+         * digits after the decimal point, and a negative scale is the number of zeros an exponent adds, so
+         * {@code 1.25} has a scale of 2 and {@code 1e5} a scale of -5.
+         *
+         * @param maxScale the maximum absolute scale
+         *
+         * @return this builder
+         */
+        public Builder maxScale(int maxScale) {
+            this.maxScale = maxScale;
+            return this;
+        }
+
+        /**
+         * Sets the maximum absolute exponent of a value in scientific notation, so {@code 12345} has an exponent
+         * of 4 and {@code 0.001} an exponent of -3.
+         *
+         * @param maxExponent the maximum absolute exponent
+         *
+         * @return this builder
+         */
+        public Builder maxExponent(int maxExponent) {
+            this.maxExponent = maxExponent;
+            return this;
+        }
+
+        /**
+         * @return the built scalar
+         */
+        public GraphQLScalarType build() {
+            Assert.assertNotNull(name);
+            Assert.assertTrue(maxDigits > 0, () -> "maxDigits must be positive");
+            Assert.assertTrue(maxScale >= 0, () -> "maxScale must not be negative");
+            Assert.assertTrue(maxExponent >= 0, () -> "maxExponent must not be negative");
+            BigNumberLimits limits = new BigNumberLimits(name, bigInteger, maxDigits, maxScale, maxExponent);
+            if (bigInteger) {
+                return JavaPrimitives.bigIntegerScalar(name,
+                        description != null ? description : "An arbitrary precision signed integer", limits);
+            }
+            return JavaPrimitives.bigDecimalScalar(name,
+                    description != null ? description : "An arbitrary precision signed decimal", limits);
+        }
+    }
+}
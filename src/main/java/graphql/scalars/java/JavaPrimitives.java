@@ -46,6 +46,103 @@ public final class JavaPrimitives {
         return input.getClass().getSimpleName();
     }
 
+    // the doubles and floats up to these magnitudes print as their exact integer value
+    private static final double MAX_EXACT_DOUBLE = 0x1p53;
+    private static final float MAX_EXACT_FLOAT = 0x1p24f;
+
+    /**
+     * Converts the input to a long if it has an exact long value, which is the same as
+     * {@code new BigDecimal(input.toString()).longValueExact()} but without the string and the BigDecimal for
+     * the common inputs.
+     * <p>
+     * Integral boxed types are widened, doubles and floats are range checked and plain strings of digits are
+     * parsed directly. Only fractional or exponent strings, very large doubles and floats and other kinds of
+     * numbers go through a BigDecimal.
+     *
+     * @return the exact long value or null if there is none
+     */
+    private static Long convertToLong(Object input) {
+        if (input instanceof Long) {
+            return (Long) input;
+        }
+        if (input instanceof Integer || input instanceof Short || input instanceof Byte) {
+            return ((Number) input).longValue();
+        }
+        if (input instanceof Double) {
+            double d = (Double) input;
+            if (d > -MAX_EXACT_DOUBLE && d < MAX_EXACT_DOUBLE) {
+                return d == Math.rint(d) ? (long) d : null;
+            }
+        } else if (input instanceof Float) {
+            float f = (Float) input;
+            if (f > -MAX_EXACT_FLOAT && f < MAX_EXACT_FLOAT) {
+                return f == Math.rint(f) ? (long) f : null;
+            }
+        } else if (input instanceof BigInteger) {
+            BigInteger value = (BigInteger) input;
+            return value.bitLength() < 64 ? value.longValue() : null;
+        } else if (input instanceof String) {
+            String value = (String) input;
+            if (isPlainInteger(value)) {
+                return parsePlainInteger(value);
+            }
+        } else if (!(input instanceof Number)) {
+            return null;
+        }
+        BigDecimal value;
+        try {
+            value = input instanceof BigDecimal ? (BigDecimal) input : new BigDecimal(input.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        try {
+            return value.longValueExact();
+        } catch (ArithmeticException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true if the string is an optional sign followed by one or more ASCII digits
+     */
+    private static boolean isPlainInteger(String value) {
+        int len = value.length();
+        int i = len > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+        if (i == len) {
+            return false;
+        }
+        for (; i < len; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a string accepted by {@link #isPlainInteger(String)}, detecting overflow as it goes
+     *
+     * @return the long value or null if it does not fit in a long
+     */
+    private static Long parsePlainInteger(String value) {
+        boolean negative = value.charAt(0) == '-';
+        int i = negative || value.charAt(0) == '+' ? 1 : 0;
+        // accumulate negatively so that Long.MIN_VALUE can be parsed
+        long result = 0;
+        for (; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (result < (Long.MIN_VALUE + digit) / 10) {
+                return null;
+            }
+            result = result * 10 - digit;
+        }
+        if (negative) {
+            return result;
+        }
+        return result == Long.MIN_VALUE ? null : -result;
+    }
+
     /**
      * This represents the "Long" type which is a representation of java.lang.Long
      */
@@ -55,24 +152,7 @@ public final class JavaPrimitives {
         Coercing<Long, Long> longCoercing = new Coercing<>() {
 
             private Long convertImpl(Object input) {
-                if (input instanceof Long) {
-                    return (Long) input;
-                } else if (isNumberIsh(input)) {
-                    BigDecimal value;
-                    try {
-                        value = new BigDecimal(input.toString());
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                    try {
-                        return value.longValueExact();
-                    } catch (ArithmeticException e) {
-                        return null;
-                    }
-                } else {
-                    return null;
-                }
-
+                return convertToLong(input);
             }
 
             @Override
@@ -144,22 +224,12 @@ public final class JavaPrimitives {
             private Short convertImpl(Object input) {
                 if (input instanceof Short) {
                     return (Short) input;
-                } else if (isNumberIsh(input)) {
-                    BigDecimal value;
-                    try {
-                        value = new BigDecimal(input.toString());
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                    try {
-                        return value.shortValueExact();
-                    } catch (ArithmeticException e) {
-                        return null;
-                    }
-                } else {
+                }
+                Long value = convertToLong(input);
+                if (value == null || value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
                     return null;
                 }
-
+                return value.shortValue();
             }
 
             @Override
@@ -223,22 +293,12 @@ public final class JavaPrimitives {
             private Byte convertImpl(Object input) {
                 if (input instanceof Byte) {
                     return (Byte) input;
-                } else if (isNumberIsh(input)) {
-                    BigDecimal value;
-                    try {
-                        value = new BigDecimal(input.toString());
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                    try {
-                        return value.byteValueExact();
-                    } catch (ArithmeticException e) {
-                        return null;
-                    }
-                } else {
+                }
+                Long value = convertToLong(input);
+                if (value == null || value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) {
                     return null;
                 }
-
+                return value.byteValue();
             }
 
             @Override
@@ -295,9 +355,9 @@ public final class JavaPrimitives {
     /**
      * This represents the "BigInteger" type which is a representation of java.math.BigInteger
      */
-    public static final GraphQLScalarType GraphQLBigInteger;
+    public static final GraphQLScalarType GraphQLBigInteger = bigIntegerScalar("BigInteger", "An arbitrary precision signed integer", BigNumberLimits.NONE);
 
-    static {
+    static GraphQLScalarType bigIntegerScalar(String name, String description, BigNumberLimits limits) {
         Coercing<BigInteger, BigInteger> bigIntCoercing = new Coercing<>() {
 
             private BigInteger convertImpl(Object input) {
@@ -320,10 +380,13 @@ public final class JavaPrimitives {
 
             @Override
             public BigInteger serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+                if (isNumberIsh(input)) {
+                    limits.check(input, CoercingSerializeException::new);
+                }
                 BigInteger result = convertImpl(input);
                 if (result == null) {
                     throw new CoercingSerializeException(
-                            "Expected type 'BigInteger' but was '" + typeName(input) + "'."
+                            "Expected type '" + name + "' but was '" + typeName(input) + "'."
                     );
                 }
                 return result;
@@ -331,10 +394,13 @@ public final class JavaPrimitives {
 
             @Override
             public BigInteger parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+                if (isNumberIsh(input)) {
+                    limits.check(input, CoercingParseValueException::new);
+                }
                 BigInteger result = convertImpl(input);
                 if (result == null) {
                     throw new CoercingParseValueException(
-                            "Expected type 'BigInteger' but was '" + typeName(input) + "'."
+                            "Expected type '" + name + "' but was '" + typeName(input) + "'."
                     );
                 }
                 return result;
@@ -343,21 +409,27 @@ public final class JavaPrimitives {
             @Override
             public BigInteger parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
                 if (input instanceof StringValue) {
+                    String value = ((StringValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
                     try {
-                        return new BigDecimal(((StringValue) input).getValue()).toBigIntegerExact();
+                        return new BigDecimal(value).toBigIntegerExact();
                     } catch (NumberFormatException | ArithmeticException e) {
                         throw new CoercingParseLiteralException(
-                                "Unable to turn AST input into a 'BigInteger' : '" + input + "'"
+                                "Unable to turn AST input into a '" + name + "' : '" + input + "'"
                         );
                     }
                 } else if (input instanceof IntValue) {
-                    return ((IntValue) input).getValue();
+                    BigInteger value = ((IntValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
+                    return value;
                 } else if (input instanceof FloatValue) {
+                    BigDecimal value = ((FloatValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
                     try {
-                        return ((FloatValue) input).getValue().toBigIntegerExact();
+                        return value.toBigIntegerExact();
                     } catch (ArithmeticException e) {
                         throw new CoercingParseLiteralException(
-                                "Unable to turn AST input into a 'BigInteger' : '" + input + "'"
+                                "Unable to turn AST input into a '" + name + "' : '" + input + "'"
                         );
                     }
                 }
@@ -373,17 +445,17 @@ public final class JavaPrimitives {
             }
         };
 
-        GraphQLBigInteger = GraphQLScalarType.newScalar()
-                .name("BigInteger").description("An arbitrary precision signed integer")
+        return GraphQLScalarType.newScalar()
+                .name(name).description(description)
                 .coercing(bigIntCoercing).build();
     }
 
     /**
      * This represents the "BigDecimal" type which is a representation of java.math.BigDecimal
      */
-    public static final GraphQLScalarType GraphQLBigDecimal;
+    public static final GraphQLScalarType GraphQLBigDecimal = bigDecimalScalar("BigDecimal", "An arbitrary precision signed decimal", BigNumberLimits.NONE);
 
-    static {
+    static GraphQLScalarType bigDecimalScalar(String name, String description, BigNumberLimits limits) {
         Coercing<BigDecimal, BigDecimal> bigDecimalCoercing = new Coercing<>() {
 
             private BigDecimal convertImpl(Object input) {
@@ -400,10 +472,13 @@ public final class JavaPrimitives {
 
             @Override
             public BigDecimal serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+                if (isNumberIsh(input)) {
+                    limits.check(input, CoercingSerializeException::new);
+                }
                 BigDecimal result = convertImpl(input);
                 if (result == null) {
                     throw new CoercingSerializeException(
-                            "Expected type 'BigDecimal' but was '" + typeName(input) + "'."
+                            "Expected type '" + name + "' but was '" + typeName(input) + "'."
                     );
                 }
                 return result;
@@ -411,10 +486,13 @@ public final class JavaPrimitives {
 
             @Override
             public BigDecimal parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+                if (isNumberIsh(input)) {
+                    limits.check(input, CoercingParseValueException::new);
+                }
                 BigDecimal result = convertImpl(input);
                 if (result == null) {
                     throw new CoercingParseValueException(
-                            "Expected type 'BigDecimal' but was '" + typeName(input) + "'."
+                            "Expected type '" + name + "' but was '" + typeName(input) + "'."
                     );
                 }
                 return result;
@@ -423,17 +501,23 @@ public final class JavaPrimitives {
             @Override
             public BigDecimal parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
                 if (input instanceof StringValue) {
+                    String value = ((StringValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
                     try {
-                        return new BigDecimal(((StringValue) input).getValue());
+                        return new BigDecimal(value);
                     } catch (NumberFormatException e) {
                         throw new CoercingParseLiteralException(
-                                "Unable to turn AST input into a 'BigDecimal' : '" + input + "'"
+                                "Unable to turn AST input into a '" + name + "' : '" + input + "'"
                         );
                     }
                 } else if (input instanceof IntValue) {
-                    return new BigDecimal(((IntValue) input).getValue());
+                    BigInteger value = ((IntValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
+                    return new BigDecimal(value);
                 } else if (input instanceof FloatValue) {
-                    return ((FloatValue) input).getValue();
+                    BigDecimal value = ((FloatValue) input).getValue();
+                    limits.check(value, CoercingParseLiteralException::new);
+                    return value;
                 }
                 throw new CoercingParseLiteralException(
                         "Expected AST type 'IntValue', 'StringValue' or 'FloatValue' but was '" + typeName(input) + "'."
@@ -448,8 +532,8 @@ public final class JavaPrimitives {
 
         };
 
-        GraphQLBigDecimal = GraphQLScalarType.newScalar()
-                .name("BigDecimal").description("An arbitrary precision signed decimal")
+        return GraphQLScalarType.newScalar()
+                .name(name).description(description)
                 .coercing(bigDecimalCoercing).build();
     }
 
@@ -0,0 +1,301 @@
+package graphql.scalars.numeric;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.function.Function;
+
+import static graphql.scalars.util.Kit.typeName;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#newDecimalScalar(String, int)}
+ */
+@Internal
+public final class DecimalScalar {
+
+    public static final int MAX_SCALE = 18;
+
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    // exponents are only scanned up to this value, anything larger overflows a long of minor units
+    private static final int MAX_SCANNED_EXPONENT = 1 << 20;
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private DecimalScalar() {}
+
+    /**
+     * Input values and literals are decimal amounts. Serialize takes integral values as minor units and
+     * {@code BigDecimal} and {@code String} values as decimal amounts, and rejects floating point values.
+     *
+     * @param name  the name of the scalar
+     * @param scale the number of decimal places, between 0 and 18
+     *
+     * @return a new scalar
+     */
+    public static GraphQLScalarType newDecimalScalar(String name, int scale) {
+        Assert.assertNotNull(name);
+        Assert.assertTrue(scale >= 0 && scale <= MAX_SCALE, () -> "The scale must be between 0 and " + MAX_SCALE + " but was " + scale);
+        Coercing<Long, String> coercing = new Coercing<>() {
+            @Override
+            public String serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+                long minorUnits;
+                if (input instanceof Long || input instanceof Integer || input instanceof Short || input instanceof Byte) {
+                    minorUnits = ((Number) input).longValue();
+                } else if (input instanceof BigDecimal) {
+                    minorUnits = toMinorUnits((BigDecimal) input, CoercingSerializeException::new);
+                } else if (input instanceof String) {
+                    minorUnits = parseMinorUnits((String) input, CoercingSerializeException::new);
+                } else {
+                    throw new CoercingSerializeException(
+                            "Expected a 'Long' of minor units, a 'BigDecimal' or a 'String' but was '" + typeName(input) + "'."
+                    );
+                }
+                return format(minorUnits);
+            }
+
+            @Override
+            public Long parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+                if (input instanceof String) {
+                    return parseMinorUnits((String) input, CoercingParseValueException::new);
+                }
+                if (input instanceof Integer || input instanceof Long || input instanceof Short || input instanceof Byte) {
+                    return toMinorUnits(((Number) input).longValue(), CoercingParseValueException::new);
+                }
+                if (input instanceof Double || input instanceof Float) {
+                    // the shortest decimal string of a double is the number the client wrote
+                    return parseMinorUnits(input.toString(), CoercingParseValueException::new);
+                }
+                if (input instanceof BigDecimal) {
+                    return toMinorUnits((BigDecimal) input, CoercingParseValueException::new);
+                }
+                if (input instanceof BigInteger) {
+                    return toMinorUnits((BigInteger) input, CoercingParseValueException::new);
+                }
+                throw new CoercingParseValueException(
+                        "Expected a 'String' or a 'Number' but was '" + typeName(input) + "'."
+                );
+            }
+
+            @Override
+            public Long parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+                if (input instanceof StringValue) {
+                    return parseMinorUnits(((StringValue) input).getValue(), CoercingParseLiteralException::new);
+                }
+                if (input instanceof IntValue) {
+                    return toMinorUnits(((IntValue) input).getValue(), CoercingParseLiteralException::new);
+                }
+                if (input instanceof FloatValue) {
+                    return toMinorUnits(((FloatValue) input).getValue(), CoercingParseLiteralException::new);
+                }
+                throw new CoercingParseLiteralException(
+                        "Expected AST type 'StringValue', 'IntValue' or 'FloatValue' but was '" + typeName(input) + "'."
+                );
+            }
+
+            @Override
+            public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+                String s = serialize(input, graphQLContext, locale);
+                return StringValue.newStringValue(s).build();
+            }
+
+            private long toMinorUnits(long majorUnits, Function<String, RuntimeException> exceptionMaker) {
+                try {
+                    return Math.multiplyExact(majorUnits, POWERS_OF_TEN[scale]);
+                } catch (ArithmeticException e) {
+                    throw outOfRange(majorUnits, exceptionMaker);
+                }
+            }
+
+            private long toMinorUnits(BigInteger majorUnits, Function<String, RuntimeException> exceptionMaker) {
+                if (majorUnits.bitLength() > 63) {
+                    throw outOfRange(majorUnits, exceptionMaker);
+                }
+                return toMinorUnits(majorUnits.longValue(), exceptionMaker);
+            }
+
+            private long toMinorUnits(BigDecimal value, Function<String, RuntimeException> exceptionMaker) {
+                // a cheap bound first, so that values like 1e999999999 are never expanded
+                if (value.signum() != 0 && (long) value.precision() - value.scale() > 19) {
+                    throw outOfRange(value, exceptionMaker);
+                }
+                BigDecimal minorUnits = value.movePointRight(scale);
+                if (minorUnits.signum() != 0 && minorUnits.stripTrailingZeros().scale() > 0) {
+                    throw tooManyDecimalPlaces(value, exceptionMaker);
+                }
+                try {
+                    return minorUnits.longValueExact();
+                } catch (ArithmeticException e) {
+                    throw outOfRange(value, exceptionMaker);
+                }
+            }
+
+            /**
+             * Parses a decimal string, with an optional sign, fraction and exponent, straight into a long of minor
+             * units. The digits are accumulated as a negative number so that {@link Long#MIN_VALUE} can be parsed,
+             * and zeros are only multiplied in once a later digit is not zero, so trailing zeros never overflow.
+             */
+            private long parseMinorUnits(String value, Function<String, RuntimeException> exceptionMaker) {
+                int len = value.length();
+                int i = 0;
+                boolean negative = false;
+                if (i < len && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                    negative = value.charAt(i) == '-';
+                    i++;
+                }
+                long result = 0;
+                int digits = 0;
+                int fractionDigits = 0;
+                int pendingZeros = 0;
+                boolean fraction = false;
+                for (; i < len; i++) {
+                    char c = value.charAt(i);
+                    if (c == '.' && !fraction) {
+                        fraction = true;
+                        continue;
+                    }
+                    if (c < '0' || c > '9') {
+                        break;
+                    }
+                    digits++;
+                    if (fraction) {
+                        fractionDigits++;
+                    }
+                    if (c == '0') {
+                        pendingZeros++;
+                        continue;
+                    }
+                    if (result != 0) {
+                        result = multiplyByPowerOfTen(result, pendingZeros + 1, value, exceptionMaker);
+                    }
+                    int digit = c - '0';
+                    if (result < Long.MIN_VALUE + digit) {
+                        throw outOfRange(value, exceptionMaker);
+                    }
+                    result -= digit;
+                    pendingZeros = 0;
+                }
+                if (digits == 0) {
+                    throw notADecimal(value, exceptionMaker);
+                }
+                int exponent = 0;
+                if (i < len) {
+                    char c = value.charAt(i++);
+                    if (c != 'e' && c != 'E') {
+                        throw notADecimal(value, exceptionMaker);
+                    }
+                    boolean negativeExponent = false;
+                    if (i < len && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                        negativeExponent = value.charAt(i++) == '-';
+                    }
+                    if (i == len) {
+                        throw notADecimal(value, exceptionMaker);
+                    }
+                    for (; i < len; i++) {
+                        c = value.charAt(i);
+                        if (c < '0' || c > '9') {
+                            throw notADecimal(value, exceptionMaker);
+                        }
+                        exponent = Math.min(exponent * 10 + (c - '0'), MAX_SCANNED_EXPONENT);
+                    }
+                    if (negativeExponent) {
+                        exponent = -exponent;
+                    }
+                }
+                if (result == 0) {
+                    return 0;
+                }
+                // the power of ten that turns the accumulated digits into minor units
+                long shift = (long) pendingZeros + exponent - fractionDigits + scale;
+                if (shift < 0) {
+                    // the last accumulated digit is not a zero, so the value has more decimal places than the scale
+                    throw tooManyDecimalPlaces(value, exceptionMaker);
+                }
+                if (shift > 0) {
+                    result = multiplyByPowerOfTen(result, shift, value, exceptionMaker);
+                }
+                if (!negative) {
+                    if (result == Long.MIN_VALUE) {
+                        throw outOfRange(value, exceptionMaker);
+                    }
+                    result = -result;
+                }
+                return result;
+            }
+
+            private long multiplyByPowerOfTen(long value, long power, Object input, Function<String, RuntimeException> exceptionMaker) {
+                if (power > MAX_SCALE) {
+                    throw outOfRange(input, exceptionMaker);
+                }
+                try {
+                    return Math.multiplyExact(value, POWERS_OF_TEN[(int) power]);
+                } catch (ArithmeticException e) {
+                    throw outOfRange(input, exceptionMaker);
+                }
+            }
+
+            /**
+             * Prints the minor units as a plain decimal string with exactly scale decimal places
+             */
+            private String format(long minorUnits) {
+                // at most 19 digits, as the scale is at most 18, plus a decimal point and a sign
+                char[] buf = new char[21];
+                int pos = buf.length;
+                // work with the negative value so that Long.MIN_VALUE has no special case
+                long remaining = minorUnits < 0 ? minorUnits : -minorUnits;
+                for (int i = 0; i < scale; i++) {
+                    buf[--pos] = (char) ('0' - remaining % 10);
+                    remaining /= 10;
+                }
+                if (scale > 0) {
+                    buf[--pos] = '.';
+                }
+                do {
+                    buf[--pos] = (char) ('0' - remaining % 10);
+                    remaining /= 10;
+                } while (remaining != 0);
+                if (minorUnits < 0) {
+                    buf[--pos] = '-';
+                }
+                return new String(buf, pos, buf.length - pos);
+            }
+
+            private RuntimeException notADecimal(Object input, Function<String, RuntimeException> exceptionMaker) {
+                return exceptionMaker.apply("Invalid '" + name + "' value : '" + input + "'. Expected a decimal number.");
+            }
+
+            private RuntimeException tooManyDecimalPlaces(Object input, Function<String, RuntimeException> exceptionMaker) {
+                return exceptionMaker.apply("Invalid '" + name + "' value : '" + input + "'. Expected at most " + scale + " decimal places.");
+            }
+
+            private RuntimeException outOfRange(Object input, Function<String, RuntimeException> exceptionMaker) {
+                return exceptionMaker.apply("Invalid '" + name + "' value : '" + input + "'. It does not fit in a long of minor units.");
+            }
+        };
+
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description("A decimal number with at most " + scale + " decimal places, held as a long of minor units")
+                .coercing(coercing)
+                .build();
+    }
+}
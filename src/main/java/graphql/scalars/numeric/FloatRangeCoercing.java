@@ -0,0 +1,141 @@
+package graphql.scalars.numeric;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+import static graphql.scalars.util.Kit.typeName;
+
+/**
+ * A `Float` coercing that only accepts values between a minimum and a maximum, each of which may be inclusive or
+ * exclusive.
+ * <p>
+ * It accepts the same inputs as {@link graphql.Scalars#GraphQLFloat} but checks primitive doubles, with fast paths
+ * for the boxed numeric types that avoid the BigDecimal round trip. NaN is rejected unless it is explicitly allowed.
+ */
+@Internal
+final class FloatRangeCoercing implements Coercing<Double, Double> {
+
+    private final double min;
+    private final double max;
+    private final boolean minInclusive;
+    private final boolean maxInclusive;
+    private final boolean allowNaN;
+    private final String outOfRangeMessage;
+
+    FloatRangeCoercing(double min, double max, boolean minInclusive, boolean maxInclusive, boolean allowNaN, String outOfRangeMessage) {
+        Assert.assertTrue(min < max || (min == max && minInclusive && maxInclusive),
+                () -> "The range from " + min + " to " + max + " must contain at least one value");
+        this.min = min;
+        this.max = max;
+        this.minInclusive = minInclusive;
+        this.maxInclusive = maxInclusive;
+        this.allowNaN = allowNaN;
+        this.outOfRangeMessage = outOfRangeMessage;
+    }
+
+    /**
+     * Infinities are never accepted and NaN only when this coercing allows it
+     */
+    private boolean inRange(double d) {
+        if (d != d) {
+            return allowNaN;
+        }
+        return Double.isFinite(d) && (minInclusive ? d >= min : d > min) && (maxInclusive ? d <= max : d < max);
+    }
+
+    private String rejectionMessage(Object input, double d) {
+        return Double.isFinite(d) ? outOfRangeMessage : notAFloatMessage(input);
+    }
+
+    @Override
+    public Double serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+        double d = toDouble(input);
+        if (!inRange(d)) {
+            throw new CoercingSerializeException(rejectionMessage(input, d));
+        }
+        return input instanceof Double ? (Double) input : d;
+    }
+
+    @Override
+    public Double parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+        // like GraphQLFloat, input values must already be numbers
+        if (!(input instanceof Number)) {
+            throw new CoercingParseValueException(notAFloatMessage(input));
+        }
+        double d = toDouble(input);
+        if (!inRange(d)) {
+            throw new CoercingParseValueException(rejectionMessage(input, d));
+        }
+        return input instanceof Double ? (Double) input : d;
+    }
+
+    @Override
+    public Double parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+        double d;
+        if (input instanceof FloatValue) {
+            d = ((FloatValue) input).getValue().doubleValue();
+        } else if (input instanceof IntValue) {
+            d = ((IntValue) input).getValue().doubleValue();
+        } else {
+            throw new CoercingParseLiteralException(
+                    "Expected AST type 'IntValue' or 'FloatValue' but was '" + typeName(input) + "'."
+            );
+        }
+        if (!inRange(d)) {
+            throw new CoercingParseLiteralException(rejectionMessage(input, d));
+        }
+        return d;
+    }
+
+    @Override
+    public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+        double d = toDouble(input);
+        Assert.assertTrue(Double.isFinite(d), () -> notAFloatMessage(input));
+        return FloatValue.newFloatValue(BigDecimal.valueOf(d)).build();
+    }
+
+    /**
+     * Converts the input to a double the way GraphQLFloat does, with fast paths for the boxed numeric types.
+     * Floats go through their decimal string so that {@code 1.1f} becomes {@code 1.1d} and not
+     * {@code 1.100000023841858d}.
+     * <p>
+     * NaN and infinite inputs are returned as they are, and anything that can not be converted becomes
+     * {@link Double#POSITIVE_INFINITY}, which is never in range.
+     */
+    private static double toDouble(Object input) {
+        if (input instanceof Double) {
+            return (Double) input;
+        }
+        if (input instanceof Integer || input instanceof Long || input instanceof Short || input instanceof Byte) {
+            return ((Number) input).longValue();
+        }
+        if (input instanceof Float) {
+            float f = (Float) input;
+            return Float.isFinite(f) ? Double.parseDouble(Float.toString(f)) : f;
+        }
+        if (!(input instanceof Number || input instanceof String)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        try {
+            return new BigDecimal(input.toString()).doubleValue();
+        } catch (NumberFormatException e) {
+            return Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private static String notAFloatMessage(Object input) {
+        return "Expected a value that can be converted to type 'Float' but it was a '" + typeName(input) + "'";
+    }
+}
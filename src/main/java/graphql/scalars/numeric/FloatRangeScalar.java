@@ -0,0 +1,36 @@
+package graphql.scalars.numeric;
+
+import graphql.Assert;
+import graphql.Internal;
+import graphql.schema.GraphQLScalarType;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#newFloatRangeScalar(String, double, double, boolean, boolean, boolean)}
+ */
+@Internal
+public final class FloatRangeScalar {
+
+    private FloatRangeScalar() {}
+
+    public static GraphQLScalarType newFloatRangeScalar(String name, double min, double max, boolean minInclusive, boolean maxInclusive, boolean allowNaN) {
+        Assert.assertNotNull(name);
+        String range = describeRange(min, max, minInclusive, maxInclusive);
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description("A Float scalar that must be " + range)
+                .coercing(new FloatRangeCoercing(min, max, minInclusive, maxInclusive, allowNaN, "The value must be " + range))
+                .build();
+    }
+
+    private static String describeRange(double min, double max, boolean minInclusive, boolean maxInclusive) {
+        String lower = min == Double.NEGATIVE_INFINITY ? null : (minInclusive ? "greater than or equal to " : "greater than ") + min;
+        String upper = max == Double.POSITIVE_INFINITY ? null : (maxInclusive ? "less than or equal to " : "less than ") + max;
+        if (lower == null && upper == null) {
+            return "a finite value";
+        }
+        if (lower == null || upper == null) {
+            return lower == null ? upper : lower;
+        }
+        return lower + " and " + upper;
+    }
+}
@@ -0,0 +1,104 @@
+package graphql.scalars.numeric;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.IntValue;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+
+import java.math.BigInteger;
+import java.util.Locale;
+
+import static graphql.Scalars.GraphQLInt;
+
+/**
+ * An `Int` coercing that only accepts values between an inclusive minimum and maximum.
+ * <p>
+ * Integer, Long, Short and Byte values and int literals are converted on primitive ints, with a single range check per
+ * value. Anything else, including every value that is not an int, goes through {@link graphql.Scalars#GraphQLInt}, so
+ * it accepts the same inputs and reports the same, localised, errors.
+ */
+@Internal
+final class IntRangeCoercing implements Coercing<Integer, Integer> {
+
+    private final int min;
+    private final int span;
+    private final String outOfRangeMessage;
+
+    IntRangeCoercing(int min, int max, String outOfRangeMessage) {
+        Assert.assertTrue(min <= max, () -> "The minimum " + min + " must not be greater than the maximum " + max);
+        this.min = min;
+        this.span = max - min;
+        this.outOfRangeMessage = outOfRangeMessage;
+    }
+
+    /**
+     * {@code min <= i <= max} as one unsigned comparison, the subtraction wraps around for values below min
+     */
+    private boolean inRange(int i) {
+        return Integer.compareUnsigned(i - min, span) <= 0;
+    }
+
+    @Override
+    public Integer serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+        int i;
+        if (isIntegral(input) && isInt(((Number) input).longValue())) {
+            i = ((Number) input).intValue();
+        } else {
+            i = (Integer) GraphQLInt.getCoercing().serialize(input, graphQLContext, locale);
+        }
+        if (!inRange(i)) {
+            throw new CoercingSerializeException(outOfRangeMessage);
+        }
+        return i;
+    }
+
+    @Override
+    public Integer parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+        int i;
+        if (isIntegral(input) && isInt(((Number) input).longValue())) {
+            i = ((Number) input).intValue();
+        } else {
+            i = (Integer) GraphQLInt.getCoercing().parseValue(input, graphQLContext, locale);
+        }
+        if (!inRange(i)) {
+            throw new CoercingParseValueException(outOfRangeMessage);
+        }
+        return i;
+    }
+
+    @Override
+    public Integer parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+        int i;
+        if (input instanceof IntValue && ((IntValue) input).getValue().bitLength() <= 31) {
+            i = ((IntValue) input).getValue().intValue();
+        } else {
+            i = (Integer) GraphQLInt.getCoercing().parseLiteral(input, variables, graphQLContext, locale);
+        }
+        if (!inRange(i)) {
+            throw new CoercingParseLiteralException(outOfRangeMessage);
+        }
+        return i;
+    }
+
+    @Override
+    public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+        if (input instanceof Integer) {
+            return IntValue.newIntValue(BigInteger.valueOf((Integer) input)).build();
+        }
+        return GraphQLInt.getCoercing().valueToLiteral(input, graphQLContext, locale);
+    }
+
+    private static boolean isIntegral(Object input) {
+        return input instanceof Integer || input instanceof Long || input instanceof Short || input instanceof Byte;
+    }
+
+    private static boolean isInt(long l) {
+        return l == (int) l;
+    }
+}
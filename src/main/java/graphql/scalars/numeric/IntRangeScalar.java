@@ -0,0 +1,23 @@
+package graphql.scalars.numeric;
+
+import graphql.Assert;
+import graphql.Internal;
+import graphql.schema.GraphQLScalarType;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#newIntRangeScalar(String, int, int)}
+ */
+@Internal
+public final class IntRangeScalar {
+
+    private IntRangeScalar() {}
+
+    public static GraphQLScalarType newIntRangeScalar(String name, int min, int max) {
+        Assert.assertNotNull(name);
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description("An Int scalar that must be between " + min + " and " + max)
+                .coercing(new IntRangeCoercing(min, max, "The value must be between " + min + " and " + max))
+                .build();
+    }
+}
@@ -3,8 +3,6 @@ package graphql.scalars.numeric;
 import graphql.Internal;
 import graphql.schema.GraphQLScalarType;
 
-import java.util.function.Function;
-
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#NegativeFloat}
  */
@@ -16,15 +14,7 @@ public final class NegativeFloatScalar {
     public static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
             .name("NegativeFloat")
             .description("An Float scalar that must be a negative value")
-            .coercing(new FloatCoercing() {
-                @Override
-                protected Double check(Double d, Function<String, RuntimeException> exceptionMaker) {
-                    if (d >= 0.0d) {
-                        throw exceptionMaker.apply("The value must be a negative value");
-                    }
-                    return d;
-                }
-            })
+            .coercing(new FloatRangeCoercing(Double.NEGATIVE_INFINITY, 0.0d, true, false, false, "The value must be a negative value"))
             .build();
 
 }
@@ -3,8 +3,6 @@ package graphql.scalars.numeric;
 import graphql.Internal;
 import graphql.schema.GraphQLScalarType;
 
-import java.util.function.Function;
-
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#NegativeInt}
  */
@@ -16,15 +14,7 @@ public final class NegativeIntScalar {
     public static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
             .name("NegativeInt")
             .description("An Int scalar that must be a negative value")
-            .coercing(new IntCoercing() {
-                @Override
-                protected Integer check(Integer i, Function<String, RuntimeException> exceptionMaker) {
-                    if (i >= 0) {
-                        throw exceptionMaker.apply("The value must be a negative integer");
-                    }
-                    return i;
-                }
-            })
+            .coercing(new IntRangeCoercing(Integer.MIN_VALUE, -1, "The value must be a negative integer"))
             .build();
 
 }
@@ -3,8 +3,6 @@ package graphql.scalars.numeric;
 import graphql.Internal;
 import graphql.schema.GraphQLScalarType;
 
-import java.util.function.Function;
-
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#NonNegativeInt}
  */
@@ -16,15 +14,7 @@ public final class NonNegativeIntScalar {
     public static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
             .name("NonNegativeInt")
             .description("An Int scalar that must be greater than or equal to zero")
-            .coercing(new IntCoercing() {
-                @Override
-                protected Integer check(Integer i, Function<String, RuntimeException> exceptionMaker) {
-                    if (i < 0) {
-                        throw exceptionMaker.apply("The value must be greater than or equal to zero");
-                    }
-                    return i;
-                }
-            })
+            .coercing(new IntRangeCoercing(0, Integer.MAX_VALUE, "The value must be greater than or equal to zero"))
             .build();
 
 }
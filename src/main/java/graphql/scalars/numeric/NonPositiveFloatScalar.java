@@ -3,8 +3,6 @@ package graphql.scalars.numeric;
 import graphql.Internal;
 import graphql.schema.GraphQLScalarType;
 
-import java.util.function.Function;
-
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#NonPositiveFloat}
  */
@@ -15,14 +13,6 @@ public final class NonPositiveFloatScalar {
 
     public static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
             .name("NonPositiveFloat").description("An Float scalar that must be less than or equal to zero")
-            .coercing(new FloatCoercing() {
-                @Override
-                protected Double check(Double d, Function<String, RuntimeException> exceptionMaker) {
-                    if (d > 0) {
-                        throw exceptionMaker.apply("The value must be less than or equal to zero");
-                    }
-                    return d;
-                }
-            })
+            .coercing(new FloatRangeCoercing(Double.NEGATIVE_INFINITY, 0.0d, true, true, false, "The value must be less than or equal to zero"))
             .build();
 }
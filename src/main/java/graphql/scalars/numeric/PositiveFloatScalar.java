@@ -3,8 +3,6 @@ package graphql.scalars.numeric;
 import graphql.Internal;
 import graphql.schema.GraphQLScalarType;
 
-import java.util.function.Function;
-
 /**
  * Access this via {@link graphql.scalars.ExtendedScalars#PositiveFloat}
  */
@@ -16,14 +14,6 @@ public final class PositiveFloatScalar {
     public static final GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
             .name("PositiveFloat")
             .description("An Float scalar that must be a positive value")
-            .coercing(new FloatCoercing() {
-                @Override
-                protected Double check(Double d, Function<String, RuntimeException> exceptionMaker) {
-                    if (d <= 0) {
-                        throw exceptionMaker.apply("The value must be a positive value");
-                    }
-                    return d;
-                }
-            })
+            .coercing(new FloatRangeCoercing(0.0d, Double.POSITIVE_INFINITY, false, true, false, "The value must be a positive value"))
             .build();
 }
@@ -0,0 +1,34 @@
+package graphql.scalars.object;
+
+import graphql.Internal;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list of the elements of a parsed array literal, held in an array of exactly the right size
+ *
+ * @see CompactMap
+ */
+@Internal
+final class CompactList extends AbstractList<Object> implements RandomAccess {
+
+    private final Object[] elements;
+
+    /**
+     * Creates a list that takes ownership of the given array
+     */
+    CompactList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object get(int index) {
+        return elements[index];
+    }
+}
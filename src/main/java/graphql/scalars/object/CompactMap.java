@@ -0,0 +1,155 @@
+package graphql.scalars.object;
+
+import graphql.Internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map of the fields of a parsed object literal, which keeps its keys and values in two arrays in
+ * insertion order.
+ * <p>
+ * Most objects in literals have a handful of fields, and a {@link java.util.LinkedHashMap} spends an entry object per
+ * field and a hash table on them. Small maps here find a key by scanning the keys, and maps with more than
+ * {@value #MAX_SCANNED_KEYS} keys also keep an open addressing table of indexes into the arrays. As in a
+ * LinkedHashMap, the last value of a repeated key wins and the key keeps its first position.
+ */
+@Internal
+final class CompactMap extends AbstractMap<String, Object> {
+
+    static final int MAX_SCANNED_KEYS = 8;
+
+    private final String[] keys;
+    private final Object[] values;
+    // the index of each key plus one, or zero for an empty slot, or null if the keys are scanned
+    private final int[] table;
+
+    /**
+     * Creates a map that takes ownership of the given arrays, which must have the same length
+     */
+    CompactMap(String[] keys, Object[] values) {
+        int size = keys.length;
+        int unique;
+        if (size <= MAX_SCANNED_KEYS) {
+            this.table = null;
+            unique = 0;
+            for (int i = 0; i < size; i++) {
+                int existing = scan(keys, unique, keys[i]);
+                if (existing >= 0) {
+                    values[existing] = values[i];
+                } else {
+                    keys[unique] = keys[i];
+                    values[unique] = values[i];
+                    unique++;
+                }
+            }
+        } else {
+            // at most half full, so probe sequences stay short
+            this.table = new int[Integer.highestOneBit(size - 1) << 2];
+            unique = 0;
+            for (int i = 0; i < size; i++) {
+                int slot = probe(table, keys, keys[i]);
+                if (table[slot] != 0) {
+                    values[table[slot] - 1] = values[i];
+                } else {
+                    keys[unique] = keys[i];
+                    values[unique] = values[i];
+                    table[slot] = ++unique;
+                }
+            }
+        }
+        this.keys = unique == size ? keys : Arrays.copyOf(keys, unique);
+        this.values = unique == size ? values : Arrays.copyOf(values, unique);
+    }
+
+    private static int scan(String[] keys, int size, Object key) {
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the slot of the key in the table, or the empty slot where it would go
+     */
+    private static int probe(int[] table, String[] keys, Object key) {
+        int mask = table.length - 1;
+        int h = key.hashCode();
+        int slot = (h ^ (h >>> 16)) & mask;
+        while (table[slot] != 0 && !keys[table[slot] - 1].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (table == null) {
+            return scan(keys, keys.length, key);
+        }
+        return table[probe(table, keys, key)] - 1;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? values[i] : null;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        for (int i = 0; i < keys.length; i++) {
+            action.accept(keys[i], values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return keys.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(keys[i], values[i]);
+                    }
+                };
+            }
+        };
+    }
+}
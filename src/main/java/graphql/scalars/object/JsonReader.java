@@ -0,0 +1,264 @@
+package graphql.scalars.object;
+
+import graphql.Internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads a JSON document into the same maps, lists, strings, numbers and booleans that an Object literal is parsed
+ * into. Integers are read as BigIntegers and other numbers as BigDecimals. Nesting is tracked with an explicit stack
+ * so deep documents can not overflow the thread stack.
+ */
+@Internal
+final class JsonReader {
+
+    private final CharSequence json;
+    private final Function<String, RuntimeException> exceptionMaker;
+    private int pos;
+
+    private JsonReader(CharSequence json, Function<String, RuntimeException> exceptionMaker) {
+        this.json = json;
+        this.exceptionMaker = exceptionMaker;
+    }
+
+    static Object read(CharSequence json, Function<String, RuntimeException> exceptionMaker) {
+        return new JsonReader(json, exceptionMaker).readDocument();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object readDocument() {
+        Deque<Object> containers = new ArrayDeque<>();
+        Deque<String> keys = new ArrayDeque<>();
+        while (true) {
+            skipWhitespace();
+            Object value;
+            char c = next();
+            if (c == '{') {
+                skipWhitespace();
+                if (pos < json.length() && json.charAt(pos) == '}') {
+                    pos++;
+                    value = new LinkedHashMap<String, Object>();
+                } else {
+                    containers.push(new LinkedHashMap<String, Object>());
+                    keys.push(readKey());
+                    continue;
+                }
+            } else if (c == '[') {
+                skipWhitespace();
+                if (pos < json.length() && json.charAt(pos) == ']') {
+                    pos++;
+                    value = new ArrayList<>();
+                } else {
+                    containers.push(new ArrayList<>());
+                    continue;
+                }
+            } else if (c == '"') {
+                value = readString();
+            } else if (c == 't') {
+                expect("rue");
+                value = Boolean.TRUE;
+            } else if (c == 'f') {
+                expect("alse");
+                value = Boolean.FALSE;
+            } else if (c == 'n') {
+                expect("ull");
+                value = null;
+            } else if (c == '-' || (c >= '0' && c <= '9')) {
+                value = readNumber(pos - 1);
+            } else {
+                throw unexpected(pos - 1);
+            }
+
+            // add the value to its container, and then add every container that it closes to the one around it
+            while (true) {
+                if (containers.isEmpty()) {
+                    skipWhitespace();
+                    if (pos < json.length()) {
+                        throw unexpected(pos);
+                    }
+                    return value;
+                }
+                Object container = containers.peek();
+                boolean isList = container instanceof List;
+                if (isList) {
+                    ((List<Object>) container).add(value);
+                } else {
+                    ((Map<String, Object>) container).put(keys.pop(), value);
+                }
+                skipWhitespace();
+                char d = next();
+                if (d == ',') {
+                    if (!isList) {
+                        keys.push(readKey());
+                    }
+                    break;
+                }
+                if (d != (isList ? ']' : '}')) {
+                    throw unexpected(pos - 1);
+                }
+                value = containers.pop();
+            }
+        }
+    }
+
+    private String readKey() {
+        skipWhitespace();
+        if (next() != '"') {
+            throw unexpected(pos - 1);
+        }
+        String key = readString();
+        skipWhitespace();
+        if (next() != ':') {
+            throw unexpected(pos - 1);
+        }
+        return key;
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been read
+     */
+    private String readString() {
+        int start = pos;
+        // most strings have no escapes and can be copied in one go
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                return json.subSequence(start, pos++).toString();
+            }
+            if (c == '\\' || c < 0x20) {
+                break;
+            }
+            pos++;
+        }
+        StringBuilder sb = new StringBuilder(pos - start + 16).append(json, start, pos);
+        while (true) {
+            char c = next();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c < 0x20) {
+                throw unexpected(pos - 1);
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    sb.append(escaped);
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(next(), 16);
+                        if (digit < 0) {
+                            throw unexpected(pos - 1);
+                        }
+                        code = code * 16 + digit;
+                    }
+                    sb.append((char) code);
+                    break;
+                default:
+                    throw unexpected(pos - 1);
+            }
+        }
+    }
+
+    private Object readNumber(int start) {
+        pos = start;
+        if (json.charAt(pos) == '-') {
+            pos++;
+        }
+        if (pos < json.length() && json.charAt(pos) == '0') {
+            pos++;
+        } else if (skipDigits() == 0) {
+            throw unexpected(pos);
+        }
+        boolean integer = true;
+        if (pos < json.length() && json.charAt(pos) == '.') {
+            pos++;
+            integer = false;
+            if (skipDigits() == 0) {
+                throw unexpected(pos);
+            }
+        }
+        if (pos < json.length() && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+            pos++;
+            integer = false;
+            if (pos < json.length() && (json.charAt(pos) == '+' || json.charAt(pos) == '-')) {
+                pos++;
+            }
+            if (skipDigits() == 0) {
+                throw unexpected(pos);
+            }
+        }
+        String number = json.subSequence(start, pos).toString();
+        return integer ? new BigInteger(number) : new BigDecimal(number);
+    }
+
+    private int skipDigits() {
+        int start = pos;
+        while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos - start;
+    }
+
+    private void expect(String rest) {
+        for (int i = 0; i < rest.length(); i++) {
+            if (next() != rest.charAt(i)) {
+                throw unexpected(pos - 1);
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private char next() {
+        if (pos >= json.length()) {
+            throw exceptionMaker.apply("Invalid JSON : the document ended unexpectedly.");
+        }
+        return json.charAt(pos++);
+    }
+
+    private RuntimeException unexpected(int at) {
+        if (at >= json.length()) {
+            return exceptionMaker.apply("Invalid JSON : the document ended unexpectedly.");
+        }
+        return exceptionMaker.apply("Invalid JSON : unexpected character '" + json.charAt(at) + "' at position " + at + ".");
+    }
+}
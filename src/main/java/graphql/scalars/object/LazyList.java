@@ -0,0 +1,49 @@
+package graphql.scalars.object;
+
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.Value;
+import graphql.scalars.util.LiteralView;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static graphql.scalars.object.LazyObjectMap.NOT_CONVERTED;
+
+/**
+ * A read only list view of an array literal, whose elements are only converted when they are first read.
+ *
+ * @see LazyObjectMap
+ */
+@Internal
+final class LazyList extends AbstractList<Object> implements RandomAccess, LiteralView {
+
+    private final Value<?>[] elements;
+    private final Object[] values;
+    private final CoercedVariables variables;
+
+    @SuppressWarnings("rawtypes")
+    LazyList(List<Value> elements, CoercedVariables variables) {
+        this.elements = elements.toArray(new Value<?>[0]);
+        this.values = new Object[this.elements.length];
+        Arrays.fill(values, NOT_CONVERTED);
+        this.variables = variables;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object get(int index) {
+        Object value = values[index];
+        if (value == NOT_CONVERTED) {
+            value = ObjectCoercing.parseLazily(elements[index], variables);
+            values[index] = value;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,169 @@
+package graphql.scalars.object;
+
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.ObjectField;
+import graphql.scalars.util.LiteralView;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A read only map view of an object literal, used by Object scalars that parse literals lazily.
+ * <p>
+ * The value of a field is only converted when it is first read, and is then kept, so a resolver that reads a few
+ * fields of a large literal never pays for the rest of it. Nested objects and arrays are views themselves. The fields
+ * are in literal order, and GraphQL validation makes sure that their names are unique.
+ * <p>
+ * Views can be read from several threads. Two threads that read a field for the first time at the same moment may
+ * both convert it, which is harmless as the results are equal.
+ */
+@Internal
+final class LazyObjectMap extends AbstractMap<String, Object> implements LiteralView {
+
+    static final Object NOT_CONVERTED = new Object();
+
+    // objects with more fields than this look their fields up by name in a hash map
+    private static final int MAX_SCANNED_FIELDS = 8;
+
+    private final ObjectField[] fields;
+    private final Object[] values;
+    private final CoercedVariables variables;
+    private volatile Map<String, Integer> indexes;
+
+    LazyObjectMap(List<ObjectField> fields, CoercedVariables variables) {
+        this.fields = fields.toArray(new ObjectField[0]);
+        this.values = new Object[this.fields.length];
+        Arrays.fill(values, NOT_CONVERTED);
+        this.variables = variables;
+    }
+
+    @Override
+    public int size() {
+        return fields.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int i = indexOf(key);
+        return i >= 0 ? valueAt(i) : null;
+    }
+
+    private Object valueAt(int i) {
+        Object value = values[i];
+        if (value == NOT_CONVERTED) {
+            value = ObjectCoercing.parseLazily(fields[i].getValue(), variables);
+            values[i] = value;
+        }
+        return value;
+    }
+
+    private int indexOf(Object key) {
+        if (fields.length <= MAX_SCANNED_FIELDS) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].getName().equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        Map<String, Integer> indexes = this.indexes;
+        if (indexes == null) {
+            indexes = new HashMap<>((int) (fields.length / 0.75f) + 1);
+            for (int i = 0; i < fields.length; i++) {
+                indexes.put(fields[i].getName(), i);
+            }
+            this.indexes = indexes;
+        }
+        Integer i = indexes.get(key);
+        return i != null ? i : -1;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public int size() {
+                return fields.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < fields.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (next >= fields.length) {
+                            throw new NoSuchElementException();
+                        }
+                        return new FieldEntry(next++);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * An entry whose value is only converted when it is read, so that iterating over the keys converts nothing
+     */
+    private final class FieldEntry implements Entry<String, Object> {
+        private final int index;
+
+        FieldEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return fields[index].getName();
+        }
+
+        @Override
+        public Object getValue() {
+            return valueAt(index);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,581 @@
+package graphql.scalars.object;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.ArrayValue;
+import graphql.language.BooleanValue;
+import graphql.language.EnumValue;
+import graphql.language.FloatValue;
+import graphql.language.IntValue;
+import graphql.language.NullValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.util.FpKit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static graphql.language.ObjectField.newObjectField;
+import static graphql.scalars.util.Kit.typeName;
+
+/**
+ * The coercing of the Object and JSON scalars.
+ * <p>
+ * Literals are converted without recursion, using an explicit stack of the arrays and objects that are being
+ * converted, so deeply nested literals can not overflow the thread stack. Arrays and objects are parsed into the
+ * immutable {@link CompactList} and {@link CompactMap}. The depth, the total number of nodes
+ * and the total UTF-8 size of the strings of a literal can be limited, which protects servers that accept
+ * literals from untrusted clients.
+ * <p>
+ * Values are turned back into literals the same way, with int, long and double arrays converted without boxing
+ * their elements.
+ * <p>
+ * A lazy coercing parses arrays and objects into read only views of the literal, see {@link LazyObjectMap}, which
+ * only convert the parts that are read. The limits of a lazy coercing are still checked when the literal is parsed.
+ * <p>
+ * Values are serialized as they are, so a {@link RawJson} document is handed to the response writer without being
+ * decoded.
+ */
+@Internal
+final class ObjectCoercing implements Coercing<Object, Object> {
+
+    // values are turned into literals at most this deep, so that a map or list that contains itself is rejected
+    // rather than filling the heap
+    static final int MAX_VALUE_DEPTH = 10_000;
+
+    private final int maxDepth;
+    private final int maxNodes;
+    private final long maxStringBytes;
+    private final int maxValueDepth;
+    private final boolean lazy;
+    private final boolean limited;
+
+    ObjectCoercing(int maxDepth, int maxNodes, long maxStringBytes, boolean lazy) {
+        this.maxDepth = maxDepth;
+        this.maxNodes = maxNodes;
+        this.maxStringBytes = maxStringBytes;
+        this.maxValueDepth = Math.min(maxDepth, MAX_VALUE_DEPTH);
+        this.lazy = lazy;
+        this.limited = maxDepth != Integer.MAX_VALUE || maxNodes != Integer.MAX_VALUE || maxStringBytes != Long.MAX_VALUE;
+    }
+
+    @Override
+    public Object serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+        return input;
+    }
+
+    @Override
+    public Object parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+        return input;
+    }
+
+    @Override
+    public Object parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+        if (!(input instanceof Value)) {
+            throw new CoercingParseLiteralException(
+                    "Expected AST type 'Value' but was '" + typeName(input) + "'."
+            );
+        }
+        if (lazy) {
+            if (limited) {
+                checkLimits(input);
+            }
+            return parseLazily(input, variables);
+        }
+        LiteralBudget budget = new LiteralBudget();
+        budget.countNodes(1);
+        if (!(input instanceof ArrayValue || input instanceof ObjectValue)) {
+            budget.countScalar(input);
+            return parseScalarLiteral(input, variables);
+        }
+
+        List<Frame> stack = new ArrayList<>();
+        stack.add(newFrame(input, 1, budget));
+        while (true) {
+            Frame frame = stack.get(stack.size() - 1);
+            if (frame.index < frame.size) {
+                Value<?> child = frame.next();
+                if (child instanceof ArrayValue || child instanceof ObjectValue) {
+                    stack.add(newFrame(child, stack.size() + 1, budget));
+                } else {
+                    budget.countScalar(child);
+                    frame.add(parseScalarLiteral(child, variables));
+                }
+            } else {
+                stack.remove(stack.size() - 1);
+                if (stack.isEmpty()) {
+                    return frame.result();
+                }
+                stack.get(stack.size() - 1).add(frame.result());
+            }
+        }
+    }
+
+    /**
+     * Checks the limits of a literal that is parsed lazily, without converting any of it
+     */
+    private void checkLimits(Value<?> input) {
+        LiteralBudget budget = new LiteralBudget();
+        budget.countNodes(1);
+        List<Iterator<Value<?>>> stack = new ArrayList<>();
+        Value<?> value = input;
+        while (true) {
+            if (value instanceof ArrayValue || value instanceof ObjectValue) {
+                checkContainer(value, stack.size() + 1, budget);
+                stack.add(childrenOf(value));
+            } else {
+                budget.countScalar(value);
+            }
+            while (!stack.isEmpty() && !stack.get(stack.size() - 1).hasNext()) {
+                stack.remove(stack.size() - 1);
+            }
+            if (stack.isEmpty()) {
+                return;
+            }
+            value = stack.get(stack.size() - 1).next();
+        }
+    }
+
+    /**
+     * @return a read only view of an array or object literal, or the value of any other literal
+     */
+    static Object parseLazily(Value<?> input, CoercedVariables variables) {
+        if (input instanceof ObjectValue) {
+            return new LazyObjectMap(((ObjectValue) input).getObjectFields(), variables);
+        }
+        if (input instanceof ArrayValue) {
+            return new LazyList(((ArrayValue) input).getValues(), variables);
+        }
+        return parseScalarLiteral(input, variables);
+    }
+
+    private static Object parseScalarLiteral(Value<?> input, CoercedVariables variables) {
+        if (input instanceof StringValue) {
+            return ((StringValue) input).getValue();
+        }
+        if (input instanceof IntValue) {
+            return ((IntValue) input).getValue();
+        }
+        if (input instanceof FloatValue) {
+            return ((FloatValue) input).getValue();
+        }
+        if (input instanceof BooleanValue) {
+            return ((BooleanValue) input).isValue();
+        }
+        if (input instanceof EnumValue) {
+            return ((EnumValue) input).getName();
+        }
+        if (input instanceof NullValue) {
+            return null;
+        }
+        if (input instanceof VariableReference) {
+            String varName = ((VariableReference) input).getName();
+            return variables.get(varName);
+        }
+        return Assert.assertShouldNeverHappen("We have covered all Value types");
+    }
+
+    /**
+     * Checks the limits for a new array or object and creates its frame with a collection sized for its children
+     */
+    private Frame newFrame(Value<?> container, int depth, LiteralBudget budget) {
+        checkContainer(container, depth, budget);
+        if (container instanceof ArrayValue) {
+            return new ArrayFrame(((ArrayValue) container).getValues());
+        }
+        return new ObjectFrame(((ObjectValue) container).getObjectFields());
+    }
+
+    private void checkContainer(Value<?> container, int depth, LiteralBudget budget) {
+        if (depth > maxDepth) {
+            throw new CoercingParseLiteralException(
+                    "The literal is nested deeper than the maximum depth of " + maxDepth + "."
+            );
+        }
+        if (container instanceof ArrayValue) {
+            budget.countNodes(((ArrayValue) container).getValues().size());
+            return;
+        }
+        List<ObjectField> fields = ((ObjectValue) container).getObjectFields();
+        budget.countNodes(fields.size());
+        for (ObjectField field : fields) {
+            budget.countString(field.getName());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Iterator<Value<?>> childrenOf(Value<?> container) {
+        if (container instanceof ArrayValue) {
+            return (Iterator) ((ArrayValue) container).getValues().iterator();
+        }
+        Iterator<ObjectField> fields = ((ObjectValue) container).getObjectFields().iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return fields.hasNext();
+            }
+
+            @Override
+            public Value<?> next() {
+                return fields.next().getValue();
+            }
+        };
+    }
+
+    /**
+     * What has been used of the limits while converting one literal
+     */
+    private final class LiteralBudget {
+        private long nodes;
+        private long stringBytes;
+
+        void countNodes(int count) {
+            nodes += count;
+            if (nodes > maxNodes) {
+                throw new CoercingParseLiteralException(
+                        "The literal has more than the maximum of " + maxNodes + " nodes."
+                );
+            }
+        }
+
+        void countScalar(Value<?> value) {
+            if (value instanceof StringValue) {
+                countString(((StringValue) value).getValue());
+            } else if (value instanceof EnumValue) {
+                countString(((EnumValue) value).getName());
+            }
+        }
+
+        void countString(String s) {
+            if (maxStringBytes == Long.MAX_VALUE) {
+                return;
+            }
+            stringBytes += utf8Length(s);
+            if (stringBytes > maxStringBytes) {
+                throw new CoercingParseLiteralException(
+                        "The strings of the literal are longer than the maximum of " + maxStringBytes + " bytes."
+                );
+            }
+        }
+    }
+
+    private static long utf8Length(String s) {
+        long bytes = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x800) {
+                // three bytes, or four for a surrogate pair which is two chars
+                bytes += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                bytes += 1;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * An array or object whose children are being converted
+     */
+    private abstract static class Frame {
+        final int size;
+        int index;
+
+        Frame(int size) {
+            this.size = size;
+        }
+
+        abstract Value<?> next();
+
+        abstract void add(Object value);
+
+        abstract Object result();
+    }
+
+    private static final class ArrayFrame extends Frame {
+        //noinspection rawtypes
+        private final List<Value> values;
+        private final Object[] result;
+
+        @SuppressWarnings("rawtypes")
+        ArrayFrame(List<Value> values) {
+            super(values.size());
+            this.values = values;
+            this.result = new Object[values.size()];
+        }
+
+        @Override
+        Value<?> next() {
+            return values.get(index++);
+        }
+
+        @Override
+        void add(Object value) {
+            // the element of the value is the one last returned by next
+            result[index - 1] = value;
+        }
+
+        @Override
+        Object result() {
+            return new CompactList(result);
+        }
+    }
+
+    private static final class ObjectFrame extends Frame {
+        private final List<ObjectField> fields;
+        private final String[] keys;
+        private final Object[] values;
+
+        ObjectFrame(List<ObjectField> fields) {
+            super(fields.size());
+            this.fields = fields;
+            this.keys = new String[fields.size()];
+            this.values = new Object[fields.size()];
+        }
+
+        @Override
+        Value<?> next() {
+            return fields.get(index++).getValue();
+        }
+
+        @Override
+        void add(Object value) {
+            // the field of the value is the one last returned by next
+            keys[index - 1] = fields.get(index - 1).getName();
+            values[index - 1] = value;
+        }
+
+        @Override
+        Object result() {
+            return new CompactMap(keys, values);
+        }
+    }
+
+    @Override
+    public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+        input = readRawJson(input);
+        Value<?> literal = scalarToLiteral(input);
+        if (literal != null) {
+            return literal;
+        }
+        checkValueDepth(1);
+        literal = primitiveArrayToLiteral(input);
+        if (literal != null) {
+            return literal;
+        }
+
+        List<LiteralFrame> stack = new ArrayList<>();
+        stack.add(newLiteralFrame(input));
+        while (true) {
+            LiteralFrame frame = stack.get(stack.size() - 1);
+            if (frame.hasNext()) {
+                Object child = readRawJson(frame.next());
+                Value<?> value = scalarToLiteral(child);
+                if (value == null) {
+                    checkValueDepth(stack.size() + 1);
+                    value = primitiveArrayToLiteral(child);
+                }
+                if (value == null) {
+                    stack.add(newLiteralFrame(child));
+                } else {
+                    frame.add(value);
+                }
+            } else {
+                stack.remove(stack.size() - 1);
+                if (stack.isEmpty()) {
+                    return frame.build();
+                }
+                stack.get(stack.size() - 1).add(frame.build());
+            }
+        }
+    }
+
+    /**
+     * A raw JSON document is read into maps and lists, which are then turned into literals like any other value
+     */
+    private static Object readRawJson(Object input) {
+        if (input instanceof RawJson) {
+            return JsonReader.read(input.toString(), CoercingSerializeException::new);
+        }
+        return input;
+    }
+
+    /**
+     * @return the literal of a value that is not an array, an iterable or a map, or null if it is one
+     */
+    private static Value<?> scalarToLiteral(Object input) {
+        if (input == null) {
+            return NullValue.newNullValue().build();
+        }
+        if (input instanceof String) {
+            return new StringValue((String) input);
+        }
+        if (input instanceof Float) {
+            return new FloatValue(BigDecimal.valueOf((Float) input));
+        }
+        if (input instanceof Double) {
+            return new FloatValue(BigDecimal.valueOf((Double) input));
+        }
+        if (input instanceof BigDecimal) {
+            return new FloatValue((BigDecimal) input);
+        }
+        if (input instanceof BigInteger) {
+            return new IntValue((BigInteger) input);
+        }
+        if (input instanceof Number) {
+            long l = ((Number) input).longValue();
+            return new IntValue(BigInteger.valueOf(l));
+        }
+        if (input instanceof Boolean) {
+            return new BooleanValue((Boolean) input);
+        }
+        return null;
+    }
+
+    /**
+     * Converts int, long and double arrays straight from their elements, rather than boxing each of them
+     *
+     * @return the literal of the array, or null if the input is not one of these arrays
+     */
+    @SuppressWarnings("rawtypes")
+    private static Value<?> primitiveArrayToLiteral(Object input) {
+        List<Value> values;
+        if (input instanceof int[]) {
+            int[] array = (int[]) input;
+            values = new ArrayList<>(array.length);
+            for (int i : array) {
+                values.add(new IntValue(BigInteger.valueOf(i)));
+            }
+        } else if (input instanceof long[]) {
+            long[] array = (long[]) input;
+            values = new ArrayList<>(array.length);
+            for (long l : array) {
+                values.add(new IntValue(BigInteger.valueOf(l)));
+            }
+        } else if (input instanceof double[]) {
+            double[] array = (double[]) input;
+            values = new ArrayList<>(array.length);
+            for (double d : array) {
+                values.add(new FloatValue(BigDecimal.valueOf(d)));
+            }
+        } else {
+            return null;
+        }
+        return ArrayValue.newArrayValue().values(values).build();
+    }
+
+    private void checkValueDepth(int depth) {
+        if (depth > maxValueDepth) {
+            throw new CoercingSerializeException(
+                    "The value is nested deeper than the maximum depth of " + maxValueDepth + "."
+            );
+        }
+    }
+
+    private static LiteralFrame newLiteralFrame(Object input) {
+        if (FpKit.isIterable(input)) {
+            if (input instanceof Object[]) {
+                return new ArrayLiteralFrame(Arrays.asList((Object[]) input));
+            }
+            return new ArrayLiteralFrame(FpKit.toIterable(input));
+        }
+        if (input instanceof Map) {
+            return new ObjectLiteralFrame((Map<?, ?>) input);
+        }
+        throw new UnsupportedOperationException("The ObjectScalar cant handle values of type : " + input.getClass());
+    }
+
+    /**
+     * An iterable or map whose elements are being turned into literals
+     */
+    private abstract static class LiteralFrame {
+
+        abstract boolean hasNext();
+
+        abstract Object next();
+
+        abstract void add(Value<?> value);
+
+        abstract Value<?> build();
+    }
+
+    private static final class ArrayLiteralFrame extends LiteralFrame {
+        private final Iterator<?> iterator;
+        //noinspection rawtypes
+        private final List<Value> values;
+
+        ArrayLiteralFrame(Iterable<?> iterable) {
+            this.iterator = iterable.iterator();
+            this.values = iterable instanceof Collection ? new ArrayList<>(((Collection<?>) iterable).size()) : new ArrayList<>();
+        }
+
+        @Override
+        boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        Object next() {
+            return iterator.next();
+        }
+
+        @Override
+        void add(Value<?> value) {
+            values.add(value);
+        }
+
+        @Override
+        Value<?> build() {
+            return ArrayValue.newArrayValue().values(values).build();
+        }
+    }
+
+    private static final class ObjectLiteralFrame extends LiteralFrame {
+        private final Iterator<? extends Map.Entry<?, ?>> iterator;
+        private final List<ObjectField> fields;
+        private String name;
+
+        ObjectLiteralFrame(Map<?, ?> map) {
+            this.iterator = map.entrySet().iterator();
+            this.fields = new ArrayList<>(map.size());
+        }
+
+        @Override
+        boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        Object next() {
+            Map.Entry<?, ?> entry = iterator.next();
+            name = String.valueOf(entry.getKey());
+            return entry.getValue();
+        }
+
+        @Override
+        void add(Value<?> value) {
+            // the field of the value is the entry last returned by next
+            fields.add(newObjectField().name(name).value(value).build());
+        }
+
+        @Override
+        Value<?> build() {
+            return ObjectValue.newObjectValue().objectFields(fields).build();
+        }
+    }
+}
@@ -1,41 +1,13 @@
 package graphql.scalars.object;
 
 import graphql.Assert;
-import graphql.GraphQLContext;
 import graphql.Internal;
-import graphql.execution.CoercedVariables;
-import graphql.language.ArrayValue;
-import graphql.language.BooleanValue;
-import graphql.language.EnumValue;
-import graphql.language.FloatValue;
-import graphql.language.IntValue;
-import graphql.language.NullValue;
-import graphql.language.ObjectField;
-import graphql.language.ObjectValue;
-import graphql.language.StringValue;
-import graphql.language.Value;
-import graphql.language.VariableReference;
 import graphql.schema.Coercing;
-import graphql.schema.CoercingParseLiteralException;
-import graphql.schema.CoercingParseValueException;
-import graphql.schema.CoercingSerializeException;
 import graphql.schema.GraphQLScalarType;
-import graphql.util.FpKit;
-
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-import static graphql.language.ObjectField.newObjectField;
-import static graphql.scalars.util.Kit.typeName;
 
 /**
- * Access this via {@link graphql.scalars.ExtendedScalars#Object}
+ * Access this via {@link graphql.scalars.ExtendedScalars#Object} or
+ * {@link graphql.scalars.ExtendedScalars#newObjectScalar(String)}
  */
 @Internal
 public final class ObjectScalar {
@@ -43,129 +15,123 @@ public final class ObjectScalar {
     private ObjectScalar() {
     }
 
-    static final Coercing<Object, Object> OBJECT_COERCING = new Coercing<>() {
-        @Override
-        public Object serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
-            return input;
+    static final Coercing<Object, Object> OBJECT_COERCING = new ObjectCoercing(Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, false);
+
+    public static GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
+            .name("Object")
+            .description("An object scalar")
+            .coercing(OBJECT_COERCING)
+            .build();
+
+    public static Builder newObjectScalar(String name) {
+        return new Builder(name);
+    }
+
+    /**
+     * A builder for Object scalars that limit the size of the literals they accept, or that parse them lazily
+     */
+    public static class Builder {
+        private String name;
+        private String description;
+        private int maxDepth = Integer.MAX_VALUE;
+        private int maxNodes = Integer.MAX_VALUE;
+        private long maxStringBytes = Long.MAX_VALUE;
+        private boolean lazy;
+
+        private Builder(String name) {
+            this.name = name;
         }
 
-        @Override
-        public Object parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
-            return input;
+        /**
+         * Sets the name of the scalar
+         *
+         * @param name the name of the scalar
+         *
+         * @return this builder
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
         }
 
-        @Override
-        public Object parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
-            if (!(input instanceof Value)) {
-                throw new CoercingParseLiteralException(
-                        "Expected AST type 'Value' but was '" + typeName(input) + "'."
-                );
-            }
-            if (input instanceof FloatValue) {
-                return ((FloatValue) input).getValue();
-            }
-            if (input instanceof StringValue) {
-                return ((StringValue) input).getValue();
-            }
-            if (input instanceof IntValue) {
-                return ((IntValue) input).getValue();
-            }
-            if (input instanceof BooleanValue) {
-                return ((BooleanValue) input).isValue();
-            }
-            if (input instanceof EnumValue) {
-                return ((EnumValue) input).getName();
-            }
-            if (input instanceof VariableReference) {
-                String varName = ((VariableReference) input).getName();
-                return variables.get(varName);
-            }
-            if (input instanceof ArrayValue) {
-                //noinspection rawtypes
-                List<Value> values = ((ArrayValue) input).getValues();
-                return values.stream()
-                        .map(v -> parseLiteral(v, variables, graphQLContext, locale))
-                        .collect(Collectors.toList());
-            }
-            if (input instanceof ObjectValue) {
-                List<ObjectField> values = ((ObjectValue) input).getObjectFields();
-                Map<String, Object> parsedValues = new LinkedHashMap<>();
-                values.forEach(fld -> {
-                    Object parsedValue;
-                    if (fld.getValue() instanceof NullValue) { // Nested NullValue inside ObjectValue
-                        parsedValue = null;
-                    } else {
-                        parsedValue = parseLiteral(fld.getValue(), variables, graphQLContext, locale);
-                    }
-                    parsedValues.put(fld.getName(), parsedValue);
-                });
-                return parsedValues;
-            }
-            return Assert.assertShouldNeverHappen("We have covered all Value types");
+        /**
+         * Sets the description of the scalar
+         *
+         * @param description the description of the scalar
+         *
+         * @return this builder
+         */
+        public Builder description(String description) {
+            this.description = description;
+            return this;
         }
 
-        @Override
-        public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
-            if (input == null) {
-                return NullValue.newNullValue().build();
-            }
-            if (input instanceof String) {
-                return new StringValue((String) input);
-            }
-            if (input instanceof Float) {
-                return new FloatValue(BigDecimal.valueOf((Float) input));
-            }
-            if (input instanceof Double) {
-                return new FloatValue(BigDecimal.valueOf((Double) input));
-            }
-            if (input instanceof BigDecimal) {
-                return new FloatValue((BigDecimal) input);
-            }
-            if (input instanceof BigInteger) {
-                return new IntValue((BigInteger) input);
-            }
-            if (input instanceof Number) {
-                long l = ((Number) input).longValue();
-                return new IntValue(BigInteger.valueOf(l));
-            }
-            if (input instanceof Boolean) {
-                return new BooleanValue((Boolean) input);
-            }
-            if (FpKit.isIterable(input)) {
-                return handleIterable(FpKit.toIterable(input), graphQLContext, locale);
-            }
-            if (input instanceof Map) {
-                return handleMap((Map<?, ?>) input, graphQLContext, locale);
-            }
-            throw new UnsupportedOperationException("The ObjectScalar cant handle values of type : " + input.getClass());
+        /**
+         * Sets how deeply arrays and objects may be nested in a literal, where a literal that is an array or an
+         * object has a depth of 1. This also limits the nesting of lists and maps that are turned into literals,
+         * which is never more than 10,000 deep.
+         *
+         * @param maxDepth the maximum nesting depth
+         *
+         * @return this builder
+         */
+        public Builder maxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
         }
 
-        private Value<?> handleMap(Map<?, ?> map, GraphQLContext graphQLContext, Locale locale) {
-            ObjectValue.Builder builder = ObjectValue.newObjectValue();
-            for (Map.Entry<?, ?> entry : map.entrySet()) {
-                String name = String.valueOf(entry.getKey());
-                Value<?> value = valueToLiteral(entry.getValue(), graphQLContext, locale);
+        /**
+         * Sets the maximum number of values in a literal, counting every array, object, field value and
+         * array element
+         *
+         * @param maxNodes the maximum number of values
+         *
+         * @return this builder
+         */
+        public Builder maxNodes(int maxNodes) {
+            this.maxNodes = maxNodes;
+            return this;
+        }
 
-                builder.objectField(
-                        newObjectField().name(name).value(value).build()
-                );
-            }
-            return builder.build();
+        /**
+         * Sets the maximum total UTF-8 size of the strings, enum values and field names of a literal
+         *
+         * @param maxStringBytes the maximum number of bytes
+         *
+         * @return this builder
+         */
+        public Builder maxStringBytes(long maxStringBytes) {
+            this.maxStringBytes = maxStringBytes;
+            return this;
         }
 
-        @SuppressWarnings("rawtypes")
-        private Value<?> handleIterable(Iterable<?> input, GraphQLContext graphQLContext, Locale locale) {
-            List<Value> values = new ArrayList<>();
-            for (Object val : input) {
-                values.add(valueToLiteral(val, graphQLContext, locale));
-            }
-            return ArrayValue.newArrayValue().values(values).build();
+        /**
+         * Makes the scalar parse array and object literals into read only lists and maps that only convert an
+         * element or field when it is first read. This helps when resolvers only look at a few fields of large
+         * literals. Any limits are still checked when the literal is parsed.
+         *
+         * @param lazy true to parse literals lazily
+         *
+         * @return this builder
+         */
+        public Builder lazy(boolean lazy) {
+            this.lazy = lazy;
+            return this;
         }
-    };
 
-    public static GraphQLScalarType INSTANCE = GraphQLScalarType.newScalar()
-            .name("Object")
-            .description("An object scalar")
-            .coercing(OBJECT_COERCING)
-            .build();
+        /**
+         * @return the built scalar
+         */
+        public GraphQLScalarType build() {
+            Assert.assertNotNull(name);
+            Assert.assertTrue(maxDepth > 0, () -> "maxDepth must be positive");
+            Assert.assertTrue(maxNodes > 0, () -> "maxNodes must be positive");
+            Assert.assertTrue(maxStringBytes >= 0, () -> "maxStringBytes must not be negative");
+            return GraphQLScalarType.newScalar()
+                    .name(name)
+                    .description(description != null ? description : "An object scalar")
+                    .coercing(new ObjectCoercing(maxDepth, maxNodes, maxStringBytes, lazy))
+                    .build();
+        }
+    }
 }
@@ -0,0 +1,113 @@
+package graphql.scalars.object;
+
+import graphql.Assert;
+import graphql.PublicApi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A JSON document that is already encoded, as text or as UTF-8 bytes.
+ * <p>
+ * A resolver of a {@link graphql.scalars.ExtendedScalars#Json} field can return one of these, rather than decoding
+ * the document into maps and lists, and the scalar serializes it as is. A response writer can then copy the
+ * document into its output with {@link #writeTo(OutputStream)} or {@link #appendTo(Appendable)} instead of
+ * encoding an object tree again.
+ * <p>
+ * The document is not checked when it is created, so it must be well formed JSON. It is only parsed if it has to be
+ * turned into a literal, for example when it is the default value of an argument.
+ */
+@PublicApi
+public final class RawJson {
+
+    private final byte[] utf8;
+    private final CharSequence text;
+
+    private RawJson(byte[] utf8, CharSequence text) {
+        this.utf8 = utf8;
+        this.text = text;
+    }
+
+    /**
+     * Creates a value that holds the given JSON text
+     *
+     * @param json the JSON text
+     *
+     * @return the raw JSON value
+     */
+    public static RawJson of(CharSequence json) {
+        return new RawJson(null, Assert.assertNotNull(json));
+    }
+
+    /**
+     * Creates a value that holds the given UTF-8 encoded JSON. The array is not copied, so it must not be
+     * changed afterwards.
+     *
+     * @param json the UTF-8 encoded JSON
+     *
+     * @return the raw JSON value
+     */
+    public static RawJson ofUtf8(byte[] json) {
+        return new RawJson(Assert.assertNotNull(json), null);
+    }
+
+    /**
+     * @return the document as UTF-8 bytes, which is the array it was created with if it was created from bytes
+     */
+    public byte[] toUtf8Bytes() {
+        if (utf8 != null) {
+            return utf8;
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the document, UTF-8 encoded, to the given stream
+     *
+     * @param out the stream to write to
+     *
+     * @throws IOException if the stream can not be written to
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(toUtf8Bytes());
+    }
+
+    /**
+     * Appends the document text to the given appendable
+     *
+     * @param out the appendable to append to
+     *
+     * @throws IOException if the appendable can not be appended to
+     */
+    public void appendTo(Appendable out) throws IOException {
+        out.append(text != null ? text : toString());
+    }
+
+    /**
+     * @return the document text
+     */
+    @Override
+    public String toString() {
+        if (text != null) {
+            return text.toString();
+        }
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RawJson)) {
+            return false;
+        }
+        return toString().equals(o.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+}
@@ -0,0 +1,321 @@
+package graphql.scalars.regex;
+
+import graphql.Internal;
+import graphql.scalars.regex.PatternParser.Alternation;
+import graphql.scalars.regex.PatternParser.Assertion;
+import graphql.scalars.regex.PatternParser.Chars;
+import graphql.scalars.regex.PatternParser.Node;
+import graphql.scalars.regex.PatternParser.Repetition;
+import graphql.scalars.regex.PatternParser.Sequence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * The patterns of a regex scalar compiled into one nondeterministic automaton, which matches a value in time linear in
+ * its length.
+ * <p>
+ * {@link java.util.regex.Matcher} backtracks, so a pattern such as {@code (a|aa)*b} can take exponential time on a
+ * crafted value. Here the automaton is simulated a code point at a time while tracking every state it could be in, so
+ * matching a value takes at most the number of its code points times the number of states, whatever the pattern.
+ * <p>
+ * Only the part of the {@link Pattern} syntax that can be matched this way is supported: literals, escapes of
+ * characters, {@code .}, character classes with ranges and negation, {@code \d \D \s \S \w \W}, groups, alternation,
+ * greedy and reluctant quantifiers, {@code ^ $ \A \z \Z}, and the {@code i}, {@code s} and {@code d} flags. Back
+ * references, lookaround, atomic groups, possessive quantifiers, word boundaries, Unicode properties and the other
+ * flags are rejected when the patterns are compiled, as are patterns that would need more than {@value #MAX_STATES}
+ * states.
+ */
+@Internal
+final class PatternAutomaton {
+
+    static final int MAX_STATES = 10_000;
+
+    // the kinds of states
+    private static final int CHARS = 0;  // consumes a code point in the ranges of the state
+    private static final int SPLIT = 1;  // goes on to both next and other
+    private static final int ASSERT = 2; // goes on to next if the assertion in other holds
+    private static final int MATCH = 3;  // the pattern whose index is in other matches
+
+    private final int[] kinds;
+    private final int[] next;
+    private final int[] other;
+    private final int[][] ranges;
+    private final int start;
+    private final ThreadLocal<Simulation> simulations;
+
+    private PatternAutomaton(Compiler compiler, int start) {
+        this.kinds = Arrays.copyOf(compiler.kinds, compiler.size);
+        this.next = Arrays.copyOf(compiler.next, compiler.size);
+        this.other = Arrays.copyOf(compiler.other, compiler.size);
+        this.ranges = Arrays.copyOf(compiler.ranges, compiler.size);
+        this.start = start;
+        this.simulations = ThreadLocal.withInitial(() -> new Simulation(kinds.length));
+    }
+
+    /**
+     * Compiles the patterns into one automaton
+     *
+     * @param patterns       the patterns, in the order they are tried
+     * @param exceptionMaker makes the exception thrown for a pattern that is not supported
+     *
+     * @return the automaton
+     */
+    static PatternAutomaton compile(List<Pattern> patterns, Function<String, RuntimeException> exceptionMaker) {
+        Compiler compiler = new Compiler(exceptionMaker);
+        int start = -1;
+        for (int i = patterns.size() - 1; i >= 0; i--) {
+            Pattern pattern = patterns.get(i);
+            Node node = PatternParser.parse(pattern, exceptionMaker);
+            int match = compiler.add(MATCH, -1, i, null, pattern);
+            int patternStart = compiler.compile(node, match, pattern);
+            start = start < 0 ? patternStart : compiler.add(SPLIT, patternStart, start, null, pattern);
+        }
+        if (start < 0) {
+            // no patterns, so nothing matches
+            start = compiler.add(CHARS, -1, -1, new int[0], null);
+        }
+        return new PatternAutomaton(compiler, start);
+    }
+
+    /**
+     * @return the number of states of the automaton
+     */
+    int size() {
+        return kinds.length;
+    }
+
+    /**
+     * @return the index of the first pattern that matches the whole value, or -1 if none do
+     */
+    int indexOf(CharSequence value) {
+        Simulation simulation = simulations.get();
+        int length = value.length();
+        simulation.nextGeneration();
+        simulation.currentSize = addClosure(simulation, simulation.current, 0, start, value, 0);
+        int pos = 0;
+        while (pos < length && simulation.currentSize > 0) {
+            int c = Character.codePointAt(value, pos);
+            int after = pos + Character.charCount(c);
+            simulation.nextGeneration();
+            int nextSize = 0;
+            for (int i = 0; i < simulation.currentSize; i++) {
+                int state = simulation.current[i];
+                if (kinds[state] == CHARS && contains(ranges[state], c)) {
+                    nextSize = addClosure(simulation, simulation.next, nextSize, next[state], value, after);
+                }
+            }
+            simulation.swap(nextSize);
+            pos = after;
+        }
+        if (pos < length) {
+            return -1;
+        }
+        int index = -1;
+        for (int i = 0; i < simulation.currentSize; i++) {
+            int state = simulation.current[i];
+            if (kinds[state] == MATCH && (index < 0 || other[state] < index)) {
+                index = other[state];
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds the states that can be reached from the given state without consuming a code point, keeping those that
+     * consume one or match
+     *
+     * @return the new size of the set
+     */
+    private int addClosure(Simulation simulation, int[] set, int size, int state, CharSequence value, int pos) {
+        int[] stack = simulation.stack;
+        int[] marks = simulation.marks;
+        int generation = simulation.generation;
+        int top = 0;
+        if (marks[state] != generation) {
+            marks[state] = generation;
+            stack[top++] = state;
+        }
+        while (top > 0) {
+            int s = stack[--top];
+            int kind = kinds[s];
+            if (kind == CHARS || kind == MATCH) {
+                set[size++] = s;
+            } else if (kind == SPLIT || isTrue(other[s], value, pos)) {
+                if (marks[next[s]] != generation) {
+                    marks[next[s]] = generation;
+                    stack[top++] = next[s];
+                }
+                if (kind == SPLIT && marks[other[s]] != generation) {
+                    marks[other[s]] = generation;
+                    stack[top++] = other[s];
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Checks an assertion the way {@link java.util.regex.Matcher#matches()} does
+     */
+    private static boolean isTrue(int assertion, CharSequence value, int pos) {
+        int length = value.length();
+        switch (assertion) {
+            case PatternParser.BEGIN:
+                return pos == 0;
+            case PatternParser.END:
+                return pos == length;
+            case PatternParser.UNIX_DOLLAR:
+                return pos == length || pos == length - 1 && value.charAt(pos) == '\n';
+            default:
+                if (pos == length) {
+                    return true;
+                }
+                if (pos == length - 2) {
+                    return value.charAt(pos) == '\r' && value.charAt(pos + 1) == '\n';
+                }
+                if (pos == length - 1) {
+                    char c = value.charAt(pos);
+                    if (c == '\n') {
+                        // not between \r and \n
+                        return pos == 0 || value.charAt(pos - 1) != '\r';
+                    }
+                    return c == '\r' || c == 0x85 || (c | 1) == 0x2029;
+                }
+                return false;
+        }
+    }
+
+    private static boolean contains(int[] ranges, int c) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (c < ranges[2 * mid]) {
+                high = mid - 1;
+            } else if (c > ranges[2 * mid + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The state sets of a thread, which are reused for every value it matches
+     */
+    private static final class Simulation {
+        int[] current;
+        int[] next;
+        int currentSize;
+        final int[] marks;
+        final int[] stack;
+        int generation;
+
+        Simulation(int size) {
+            this.current = new int[size];
+            this.next = new int[size];
+            this.marks = new int[size];
+            this.stack = new int[size];
+        }
+
+        void nextGeneration() {
+            if (++generation == 0) {
+                Arrays.fill(marks, 0);
+                generation = 1;
+            }
+        }
+
+        void swap(int nextSize) {
+            int[] t = current;
+            current = next;
+            next = t;
+            currentSize = nextSize;
+        }
+    }
+
+    /**
+     * Builds the states of the automaton, from the end of each pattern backwards
+     */
+    private static final class Compiler {
+        private final Function<String, RuntimeException> exceptionMaker;
+        int[] kinds = new int[16];
+        int[] next = new int[16];
+        int[] other = new int[16];
+        int[][] ranges = new int[16][];
+        int size;
+
+        Compiler(Function<String, RuntimeException> exceptionMaker) {
+            this.exceptionMaker = exceptionMaker;
+        }
+
+        int add(int kind, int next, int other, int[] ranges, Pattern pattern) {
+            if (size == MAX_STATES) {
+                throw exceptionMaker.apply("The pattern '" + pattern.pattern() + "' can not be matched in linear time, as the patterns need more than " + MAX_STATES + " states.");
+            }
+            if (size == kinds.length) {
+                int capacity = Math.min(size * 2, MAX_STATES);
+                this.kinds = Arrays.copyOf(this.kinds, capacity);
+                this.next = Arrays.copyOf(this.next, capacity);
+                this.other = Arrays.copyOf(this.other, capacity);
+                this.ranges = Arrays.copyOf(this.ranges, capacity);
+            }
+            this.kinds[size] = kind;
+            this.next[size] = next;
+            this.other[size] = other;
+            this.ranges[size] = ranges;
+            return size++;
+        }
+
+        /**
+         * @return the first state of the node, which goes on to the given state once the node has matched
+         */
+        int compile(Node node, int then, Pattern pattern) {
+            if (node instanceof Chars) {
+                return add(CHARS, then, -1, ((Chars) node).ranges, pattern);
+            }
+            if (node instanceof Assertion) {
+                return add(ASSERT, then, ((Assertion) node).assertion, null, pattern);
+            }
+            if (node instanceof Sequence) {
+                List<Node> nodes = ((Sequence) node).nodes;
+                int state = then;
+                for (int i = nodes.size() - 1; i >= 0; i--) {
+                    state = compile(nodes.get(i), state, pattern);
+                }
+                return state;
+            }
+            if (node instanceof Alternation) {
+                List<Node> nodes = ((Alternation) node).nodes;
+                int state = compile(nodes.get(nodes.size() - 1), then, pattern);
+                for (int i = nodes.size() - 2; i >= 0; i--) {
+                    state = add(SPLIT, compile(nodes.get(i), then, pattern), state, null, pattern);
+                }
+                return state;
+            }
+            Repetition repetition = (Repetition) node;
+            if (repetition.node instanceof Sequence && ((Sequence) repetition.node).nodes.isEmpty()) {
+                return then;
+            }
+            int state = then;
+            if (repetition.max < 0) {
+                int loop = add(SPLIT, -1, then, null, pattern);
+                // compiling may grow the arrays, so do it before indexing them
+                int body = compile(repetition.node, loop, pattern);
+                next[loop] = body;
+                state = loop;
+            } else {
+                for (int i = repetition.min; i < repetition.max; i++) {
+                    state = add(SPLIT, compile(repetition.node, state, pattern), then, null, pattern);
+                }
+            }
+            for (int i = 0; i < repetition.min; i++) {
+                state = compile(repetition.node, state, pattern);
+            }
+            return state;
+        }
+    }
+}
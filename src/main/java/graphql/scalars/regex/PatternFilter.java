@@ -0,0 +1,347 @@
+package graphql.scalars.regex;
+
+import graphql.Internal;
+import graphql.scalars.regex.PatternParser.Alternation;
+import graphql.scalars.regex.PatternParser.Chars;
+import graphql.scalars.regex.PatternParser.Node;
+import graphql.scalars.regex.PatternParser.Repetition;
+import graphql.scalars.regex.PatternParser.Sequence;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Facts that every value matched by a pattern has, which are checked before the pattern is run so that values that
+ * are obviously wrong are rejected cheaply: the range of their lengths, a literal prefix and suffix, and the characters
+ * they can contain. Lengths are counted in chars, as {@link String#length()} does.
+ * <p>
+ * The facts are derived from patterns that {@link PatternParser} supports. Other patterns get a filter that lets every
+ * value through, so a filter never rejects a value that its pattern would match.
+ */
+@Internal
+final class PatternFilter {
+
+    static final PatternFilter ANY_VALUE = new PatternFilter(0, Integer.MAX_VALUE, "", "", -1L, -1L, null);
+
+    // literal prefixes and suffixes are not worth checking beyond this length
+    private static final int MAX_AFFIX_LENGTH = 64;
+
+    private final int minLength;
+    private final int maxLength;
+    private final String prefix;
+    private final String suffix;
+    // the ASCII chars values can contain, as a bitmap of chars 0 to 63 and of chars 64 to 127
+    private final long asciiLow;
+    private final long asciiHigh;
+    // the sorted other chars values can contain, or null if they can contain any other char
+    private final char[] otherChars;
+    private final boolean checksChars;
+
+    private PatternFilter(int minLength, int maxLength, String prefix, String suffix, long asciiLow, long asciiHigh, char[] otherChars) {
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.asciiLow = asciiLow;
+        this.asciiHigh = asciiHigh;
+        this.otherChars = otherChars;
+        this.checksChars = asciiLow != -1L || asciiHigh != -1L || otherChars != null;
+    }
+
+    /**
+     * @return a filter that only lets through values of at most the given length, made of the given chars if any
+     */
+    static PatternFilter hints(int maxLength, String charset) {
+        if (charset == null) {
+            return new PatternFilter(0, maxLength, "", "", -1L, -1L, null);
+        }
+        long asciiLow = 0;
+        long asciiHigh = 0;
+        StringBuilder others = new StringBuilder();
+        for (int i = 0; i < charset.length(); i++) {
+            char c = charset.charAt(i);
+            if (c < 64) {
+                asciiLow |= 1L << c;
+            } else if (c < 128) {
+                asciiHigh |= 1L << c;
+            } else {
+                others.append(c);
+            }
+        }
+        char[] otherChars = others.toString().toCharArray();
+        Arrays.sort(otherChars);
+        return new PatternFilter(0, maxLength, "", "", asciiLow, asciiHigh, otherChars);
+    }
+
+    /**
+     * @return the filter of the pattern, or {@link #ANY_VALUE} if it can not be derived
+     */
+    static PatternFilter of(Pattern pattern) {
+        Node node;
+        try {
+            node = PatternParser.parse(pattern, IllegalArgumentException::new);
+        } catch (IllegalArgumentException e) {
+            return ANY_VALUE;
+        }
+        long[] lengths = lengths(node);
+        long[] chars = new long[3];
+        addChars(node, chars);
+        String prefix = affix(node, true);
+        String suffix = affix(node, false);
+        return new PatternFilter((int) lengths[0], (int) lengths[1],
+                prefix.length() > MAX_AFFIX_LENGTH ? prefix.substring(0, MAX_AFFIX_LENGTH) : prefix,
+                suffix.length() > MAX_AFFIX_LENGTH ? suffix.substring(suffix.length() - MAX_AFFIX_LENGTH) : suffix,
+                chars[0], chars[1], chars[2] != 0 ? null : new char[0]);
+    }
+
+    /**
+     * @return a filter that lets through the values that either filter lets through
+     */
+    PatternFilter or(PatternFilter other) {
+        return new PatternFilter(Math.min(minLength, other.minLength), Math.max(maxLength, other.maxLength),
+                commonPrefix(prefix, other.prefix), commonSuffix(suffix, other.suffix),
+                asciiLow | other.asciiLow, asciiHigh | other.asciiHigh,
+                otherChars == null || other.otherChars == null ? null : merge(otherChars, other.otherChars, true));
+    }
+
+    /**
+     * @return a filter that lets through the values that both filters let through
+     */
+    PatternFilter and(PatternFilter other) {
+        String prefix = this.prefix.length() >= other.prefix.length() ? this.prefix : other.prefix;
+        String suffix = this.suffix.length() >= other.suffix.length() ? this.suffix : other.suffix;
+        char[] otherChars;
+        if (this.otherChars == null || other.otherChars == null) {
+            otherChars = this.otherChars == null ? other.otherChars : this.otherChars;
+        } else {
+            otherChars = merge(this.otherChars, other.otherChars, false);
+        }
+        return new PatternFilter(Math.max(minLength, other.minLength), Math.min(maxLength, other.maxLength),
+                prefix, suffix, asciiLow & other.asciiLow, asciiHigh & other.asciiHigh, otherChars);
+    }
+
+    /**
+     * @return false if the value can not match, or true if it might
+     */
+    boolean mayMatch(String value) {
+        int length = value.length();
+        if (length < minLength || length > maxLength || !value.startsWith(prefix) || !value.endsWith(suffix)) {
+            return false;
+        }
+        if (checksChars) {
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                boolean allowed;
+                if (c < 128) {
+                    // the shift only uses the low six bits of c
+                    allowed = ((c < 64 ? asciiLow : asciiHigh) & (1L << c)) != 0;
+                } else {
+                    allowed = otherChars == null || Arrays.binarySearch(otherChars, c) >= 0;
+                }
+                if (!allowed) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the minimum and maximum length of the values the node matches, the maximum capped at Integer.MAX_VALUE
+     */
+    private static long[] lengths(Node node) {
+        if (node instanceof Chars) {
+            int[] ranges = ((Chars) node).ranges;
+            boolean bmp = ranges.length > 0 && ranges[0] < Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            boolean supplementary = ranges.length > 0 && ranges[ranges.length - 1] >= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+            return new long[]{bmp ? 1 : 2, supplementary ? 2 : 1};
+        }
+        if (node instanceof Sequence) {
+            long min = 0;
+            long max = 0;
+            for (Node n : ((Sequence) node).nodes) {
+                long[] lengths = lengths(n);
+                min = cap(min + lengths[0]);
+                max = cap(max + lengths[1]);
+            }
+            return new long[]{min, max};
+        }
+        if (node instanceof Alternation) {
+            long min = Integer.MAX_VALUE;
+            long max = 0;
+            for (Node n : ((Alternation) node).nodes) {
+                long[] lengths = lengths(n);
+                min = Math.min(min, lengths[0]);
+                max = Math.max(max, lengths[1]);
+            }
+            return new long[]{min, max};
+        }
+        if (node instanceof Repetition) {
+            Repetition repetition = (Repetition) node;
+            long[] lengths = lengths(repetition.node);
+            long max;
+            if (lengths[1] == 0) {
+                max = 0;
+            } else {
+                max = repetition.max < 0 ? Integer.MAX_VALUE : cap(repetition.max * lengths[1]);
+            }
+            return new long[]{cap(repetition.min * lengths[0]), max};
+        }
+        // an assertion
+        return new long[]{0, 0};
+    }
+
+    private static long cap(long length) {
+        return Math.min(length, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Adds the chars that the values the node matches can contain to the ASCII bitmaps in chars[0] and chars[1], and
+     * sets chars[2] if they can contain other chars
+     */
+    private static void addChars(Node node, long[] chars) {
+        if (node instanceof Chars) {
+            int[] ranges = ((Chars) node).ranges;
+            for (int i = 0; i < ranges.length; i += 2) {
+                for (int c = ranges[i]; c <= Math.min(ranges[i + 1], 127); c++) {
+                    chars[c >> 6] |= 1L << c;
+                }
+                if (ranges[i + 1] >= 128) {
+                    chars[2] = 1;
+                }
+            }
+        } else if (node instanceof Sequence) {
+            ((Sequence) node).nodes.forEach(n -> addChars(n, chars));
+        } else if (node instanceof Alternation) {
+            ((Alternation) node).nodes.forEach(n -> addChars(n, chars));
+        } else if (node instanceof Repetition && ((Repetition) node).max != 0) {
+            addChars(((Repetition) node).node, chars);
+        }
+    }
+
+    /**
+     * @return the literal that all the values the node matches start with, or end with
+     */
+    private static String affix(Node node, boolean prefix) {
+        String exact = exact(node);
+        if (exact != null) {
+            return exact;
+        }
+        if (node instanceof Sequence) {
+            List<Node> nodes = ((Sequence) node).nodes;
+            StringBuilder affix = new StringBuilder();
+            for (int i = 0; i < nodes.size() && affix.length() <= MAX_AFFIX_LENGTH; i++) {
+                Node n = nodes.get(prefix ? i : nodes.size() - 1 - i);
+                String e = exact(n);
+                if (e == null) {
+                    String a = affix(n, prefix);
+                    return prefix ? affix.append(a).toString() : affix.insert(0, a).toString();
+                }
+                if (prefix) {
+                    affix.append(e);
+                } else {
+                    affix.insert(0, e);
+                }
+            }
+            return affix.toString();
+        }
+        if (node instanceof Alternation) {
+            List<Node> nodes = ((Alternation) node).nodes;
+            String affix = affix(nodes.get(0), prefix);
+            for (int i = 1; i < nodes.size() && !affix.isEmpty(); i++) {
+                String a = affix(nodes.get(i), prefix);
+                affix = prefix ? commonPrefix(affix, a) : commonSuffix(affix, a);
+            }
+            return affix;
+        }
+        if (node instanceof Repetition && ((Repetition) node).min > 0) {
+            return affix(((Repetition) node).node, prefix);
+        }
+        return "";
+    }
+
+    /**
+     * @return the only value the node matches, or null if it matches several values or is too long to be worth it
+     */
+    private static String exact(Node node) {
+        if (node instanceof Chars) {
+            int[] ranges = ((Chars) node).ranges;
+            return ranges.length == 2 && ranges[0] == ranges[1] ? new String(Character.toChars(ranges[0])) : null;
+        }
+        if (node instanceof Sequence) {
+            StringBuilder exact = new StringBuilder();
+            for (Node n : ((Sequence) node).nodes) {
+                String e = exact(n);
+                if (e == null || exact.length() > MAX_AFFIX_LENGTH) {
+                    return null;
+                }
+                exact.append(e);
+            }
+            return exact.toString();
+        }
+        if (node instanceof Repetition) {
+            Repetition repetition = (Repetition) node;
+            String e = repetition.min == repetition.max ? exact(repetition.node) : null;
+            if (e == null || (long) e.length() * repetition.min > MAX_AFFIX_LENGTH) {
+                return null;
+            }
+            return e.repeat(repetition.min);
+        }
+        if (node instanceof Alternation) {
+            return null;
+        }
+        // an assertion matches nothing
+        return "";
+    }
+
+    private static String commonPrefix(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        // do not split a surrogate pair
+        if (i > 0 && Character.isHighSurrogate(a.charAt(i - 1)) && i < a.length()) {
+            i--;
+        }
+        return a.substring(0, i);
+    }
+
+    private static String commonSuffix(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(a.length() - 1 - i) == b.charAt(b.length() - 1 - i)) {
+            i++;
+        }
+        if (i > 0 && Character.isLowSurrogate(a.charAt(a.length() - i)) && i < a.length()) {
+            i--;
+        }
+        return a.substring(a.length() - i);
+    }
+
+    /**
+     * @return the sorted union or intersection of two sorted arrays
+     */
+    private static char[] merge(char[] a, char[] b, boolean union) {
+        StringBuilder merged = new StringBuilder();
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || i < a.length && a[i] < b[j]) {
+                if (union) {
+                    merged.append(a[i]);
+                }
+                i++;
+            } else if (i == a.length || b[j] < a[i]) {
+                if (union) {
+                    merged.append(b[j]);
+                }
+                j++;
+            } else {
+                merged.append(a[i]);
+                i++;
+                j++;
+            }
+        }
+        return merged.toString().toCharArray();
+    }
+}
@@ -0,0 +1,639 @@
+package graphql.scalars.regex;
+
+import graphql.Internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the part of the {@link Pattern} syntax that {@link PatternAutomaton} supports into a tree of nodes. The
+ * pattern has already been compiled, so it is known to be well formed. Sets of code points are kept as sorted arrays
+ * of inclusive ranges, {@code [low0, high0, low1, high1, ...]}.
+ */
+@Internal
+final class PatternParser {
+
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.DOTALL | Pattern.UNIX_LINES;
+    static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+    // the assertions
+    static final int BEGIN = 0;       // ^ and \A
+    static final int END = 1;         // \z
+    static final int DOLLAR = 2;      // $ and \Z
+    static final int UNIX_DOLLAR = 3; // $ and \Z with UNIX_LINES
+
+    private static final int[] DIGITS = {'0', '9'};
+    private static final int[] WORD = {'0', '9', 'A', 'Z', '_', '_', 'a', 'z'};
+    private static final int[] SPACE = {'\t', '\r', ' ', ' '};
+    private static final int[] ANY = {0, MAX_CODE_POINT};
+    private static final int[] NOT_LINE_TERMINATOR = {0, '\n' - 1, '\n' + 1, '\r' - 1, '\r' + 1, 0x84, 0x86, 0x2027, 0x202A, MAX_CODE_POINT};
+    private static final int[] NOT_NEWLINE = {0, '\n' - 1, '\n' + 1, MAX_CODE_POINT};
+
+    private final String regex;
+    private final Function<String, RuntimeException> exceptionMaker;
+    private int pos;
+    private int flags;
+    private int depth;
+    private boolean started;
+
+    private PatternParser(Pattern pattern, Function<String, RuntimeException> exceptionMaker) {
+        this.regex = pattern.pattern();
+        this.exceptionMaker = exceptionMaker;
+        // this includes the flags set inline at the top level, which is why those may only be set at the start
+        this.flags = pattern.flags();
+        if ((flags & ~SUPPORTED_FLAGS) != 0) {
+            throw unsupported("only the CASE_INSENSITIVE, DOTALL and UNIX_LINES flags are supported");
+        }
+    }
+
+    /**
+     * Parses a pattern
+     *
+     * @param pattern        the pattern
+     * @param exceptionMaker makes the exception thrown if the pattern uses syntax that is not supported
+     *
+     * @return the root node of the pattern
+     */
+    static Node parse(Pattern pattern, Function<String, RuntimeException> exceptionMaker) {
+        return new PatternParser(pattern, exceptionMaker).parseAll();
+    }
+
+    private Node parseAll() {
+        Node node = parseAlternation();
+        if (pos < regex.length()) {
+            throw unsupported("of the unbalanced ')' at index " + pos);
+        }
+        return node;
+    }
+
+    private RuntimeException unsupported(String reason) {
+        return exceptionMaker.apply("The pattern '" + regex + "' can not be matched in linear time, as " + reason + ".");
+    }
+
+    private boolean more() {
+        return pos < regex.length();
+    }
+
+    private char peek() {
+        return regex.charAt(pos);
+    }
+
+    private boolean has(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    private Node parseAlternation() {
+        List<Node> nodes = new ArrayList<>();
+        nodes.add(parseSequence());
+        while (more() && peek() == '|') {
+            pos++;
+            nodes.add(parseSequence());
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new Alternation(nodes);
+    }
+
+    private Node parseSequence() {
+        List<Node> nodes = new ArrayList<>();
+        while (more() && peek() != '|' && peek() != ')') {
+            Node node = parseAtom();
+            if (node instanceof Quote) {
+                // a quantifier after a quote only repeats its last character
+                List<Node> quoted = ((Quote) node).nodes;
+                nodes.addAll(quoted.subList(0, quoted.size() - 1));
+                node = quoted.get(quoted.size() - 1);
+            }
+            if (node != null) {
+                nodes.add(parseQuantifier(node));
+            }
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new Sequence(nodes);
+    }
+
+    /**
+     * @return the next atom, or null if it only set flags or quoted nothing
+     */
+    private Node parseAtom() {
+        int c = regex.codePointAt(pos);
+        if (c == '(') {
+            return parseGroup();
+        }
+        if (depth == 0) {
+            started = true;
+        }
+        switch (c) {
+            case '[':
+                pos++;
+                return new Chars(parseClass());
+            case '.':
+                pos++;
+                return new Chars(has(Pattern.DOTALL) ? ANY : has(Pattern.UNIX_LINES) ? NOT_NEWLINE : NOT_LINE_TERMINATOR);
+            case '^':
+                pos++;
+                return new Assertion(BEGIN);
+            case '$':
+                pos++;
+                return new Assertion(has(Pattern.UNIX_LINES) ? UNIX_DOLLAR : DOLLAR);
+            case '\\':
+                return parseEscape();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+                throw unsupported("of the dangling '" + (char) c + "' at index " + pos);
+            default:
+                pos += Character.charCount(c);
+                return new Chars(literal(c));
+        }
+    }
+
+    private Node parseGroup() {
+        int groupStart = pos++;
+        int saved = flags;
+        if (more() && peek() == '?') {
+            pos++;
+            char c = more() ? peek() : ')';
+            if (c == ':') {
+                pos++;
+            } else if (c == '<' && pos + 1 < regex.length() && Character.isLetter(regex.charAt(pos + 1))) {
+                pos = regex.indexOf('>', pos) + 1;
+            } else if (c == '=' || c == '!' || c == '<') {
+                throw unsupported("lookaround is not supported");
+            } else if (c == '>') {
+                throw unsupported("atomic groups are not supported");
+            } else {
+                parseFlags();
+                if (peek() == ')') {
+                    // the flags hold until the end of the enclosing group
+                    if (depth == 0 && started) {
+                        throw unsupported("flags can only be set at the start, use a group like (?i:...) instead");
+                    }
+                    pos++;
+                    return null;
+                }
+                pos++;
+            }
+        }
+        if (depth == 0) {
+            started = true;
+        }
+        depth++;
+        Node node = parseAlternation();
+        depth--;
+        if (!more()) {
+            throw unsupported("the group at index " + groupStart + " is not closed");
+        }
+        pos++;
+        flags = saved;
+        return node;
+    }
+
+    private void parseFlags() {
+        boolean on = true;
+        while (more() && peek() != ')' && peek() != ':') {
+            char c = regex.charAt(pos++);
+            int flag;
+            switch (c) {
+                case '-':
+                    on = false;
+                    continue;
+                case 'i':
+                    flag = Pattern.CASE_INSENSITIVE;
+                    break;
+                case 's':
+                    flag = Pattern.DOTALL;
+                    break;
+                case 'd':
+                    flag = Pattern.UNIX_LINES;
+                    break;
+                default:
+                    throw unsupported("only the i, s and d flags are supported");
+            }
+            flags = on ? flags | flag : flags & ~flag;
+        }
+        if (!more()) {
+            throw unsupported("the group at index " + pos + " is not closed");
+        }
+    }
+
+    private Node parseQuantifier(Node node) {
+        if (!more()) {
+            return node;
+        }
+        int min;
+        int max;
+        switch (peek()) {
+            case '*':
+                min = 0;
+                max = -1;
+                pos++;
+                break;
+            case '+':
+                min = 1;
+                max = -1;
+                pos++;
+                break;
+            case '?':
+                min = 0;
+                max = 1;
+                pos++;
+                break;
+            case '{':
+                pos++;
+                min = parseCount();
+                max = min;
+                if (more() && peek() == ',') {
+                    pos++;
+                    max = more() && peek() == '}' ? -1 : parseCount();
+                }
+                if (!more() || peek() != '}' || max >= 0 && max < min) {
+                    throw unsupported("of the repetition at index " + pos);
+                }
+                pos++;
+                break;
+            default:
+                return node;
+        }
+        if (hasAssertion(node)) {
+            // Pattern ends a repetition after an iteration that matches nothing, which an assertion can make
+            // accept fewer values than the automaton would
+            throw unsupported("assertions can not be repeated");
+        }
+        if (more() && peek() == '?') {
+            // a reluctant quantifier accepts the same values
+            pos++;
+        } else if (more() && peek() == '+') {
+            throw unsupported("possessive quantifiers are not supported");
+        }
+        if (more() && "*+?{".indexOf(peek()) >= 0) {
+            throw unsupported("repetitions can not be repeated");
+        }
+        return new Repetition(node, min, max);
+    }
+
+    private static boolean hasAssertion(Node node) {
+        if (node instanceof Assertion) {
+            return true;
+        }
+        List<Node> nodes;
+        if (node instanceof Sequence) {
+            nodes = ((Sequence) node).nodes;
+        } else if (node instanceof Alternation) {
+            nodes = ((Alternation) node).nodes;
+        } else if (node instanceof Repetition) {
+            return hasAssertion(((Repetition) node).node);
+        } else {
+            return false;
+        }
+        for (Node n : nodes) {
+            if (hasAssertion(n)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int parseCount() {
+        int countStart = pos;
+        long count = 0;
+        while (more() && peek() >= '0' && peek() <= '9' && count <= Integer.MAX_VALUE) {
+            count = count * 10 + (regex.charAt(pos++) - '0');
+        }
+        if (pos == countStart || count > Integer.MAX_VALUE) {
+            throw unsupported("of the repetition at index " + countStart);
+        }
+        return (int) count;
+    }
+
+    private Node parseEscape() {
+        int escapeStart = pos;
+        pos++;
+        if (!more()) {
+            throw unsupported("of the trailing '\\'");
+        }
+        char c = regex.charAt(pos);
+        switch (c) {
+            case 'A':
+                pos++;
+                return new Assertion(BEGIN);
+            case 'z':
+                pos++;
+                return new Assertion(END);
+            case 'Z':
+                pos++;
+                return new Assertion(has(Pattern.UNIX_LINES) ? UNIX_DOLLAR : DOLLAR);
+            case 'Q':
+                return parseQuote();
+            default:
+                pos = escapeStart;
+                int[] predefined = parsePredefinedClass();
+                return new Chars(predefined != null ? predefined : literal(parseEscapedChar()));
+        }
+    }
+
+    private Node parseQuote() {
+        pos++;
+        int end = regex.indexOf("\\E", pos);
+        String quoted = regex.substring(pos, end < 0 ? regex.length() : end);
+        pos = end < 0 ? regex.length() : end + 2;
+        List<Node> nodes = new ArrayList<>();
+        quoted.codePoints().forEach(c -> nodes.add(new Chars(literal(c))));
+        return nodes.isEmpty() ? null : new Quote(nodes);
+    }
+
+    /**
+     * @return the ranges of the predefined class at the current backslash, or null if it escapes something else
+     */
+    private int[] parsePredefinedClass() {
+        int[] predefined;
+        switch (regex.charAt(pos + 1)) {
+            case 'd':
+                predefined = DIGITS;
+                break;
+            case 'D':
+                predefined = complement(DIGITS);
+                break;
+            case 'w':
+                predefined = WORD;
+                break;
+            case 'W':
+                predefined = complement(WORD);
+                break;
+            case 's':
+                predefined = SPACE;
+                break;
+            case 'S':
+                predefined = complement(SPACE);
+                break;
+            default:
+                return null;
+        }
+        pos += 2;
+        return predefined;
+    }
+
+    /**
+     * @return the code point escaped at the current backslash
+     */
+    private int parseEscapedChar() {
+        int escapeStart = pos;
+        pos++;
+        if (!more()) {
+            throw unsupported("of the trailing '\\'");
+        }
+        int c = regex.codePointAt(pos);
+        pos += Character.charCount(c);
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            case 'x':
+                if (more() && peek() == '{') {
+                    int end = regex.indexOf('}', pos);
+                    int x = parseHex(pos + 1, end);
+                    pos = end + 1;
+                    return x;
+                }
+                pos += 2;
+                return parseHex(pos - 2, pos);
+            case 'u':
+                pos += 4;
+                int u = parseHex(pos - 4, pos);
+                if (Character.isSurrogate((char) u)) {
+                    throw unsupported("escaped surrogates are not supported");
+                }
+                return u;
+            case 'k':
+                throw unsupported("back references are not supported");
+            default:
+                if (c >= '1' && c <= '9') {
+                    throw unsupported("back references are not supported");
+                }
+                if (c < 128 && Character.isLetterOrDigit(c)) {
+                    throw unsupported(regex.substring(escapeStart, pos) + " is not supported");
+                }
+                return c;
+        }
+    }
+
+    private int parseHex(int from, int to) {
+        if (from >= to || to > regex.length()) {
+            throw unsupported("of the hexadecimal escape at index " + from);
+        }
+        try {
+            int x = Integer.parseInt(regex.substring(from, to), 16);
+            if (x <= MAX_CODE_POINT) {
+                return x;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw unsupported("of the hexadecimal escape at index " + from);
+    }
+
+    private int[] parseClass() {
+        int classStart = pos - 1;
+        boolean negated = more() && peek() == '^';
+        if (negated) {
+            pos++;
+        }
+        List<int[]> parts = new ArrayList<>();
+        boolean first = true;
+        while (true) {
+            if (!more()) {
+                throw unsupported("the class at index " + classStart + " is not closed");
+            }
+            int c = regex.codePointAt(pos);
+            if (c == ']' && !first) {
+                pos++;
+                break;
+            }
+            first = false;
+            if (c == '[') {
+                throw unsupported("nested classes are not supported");
+            }
+            if (c == '&' && regex.startsWith("&&", pos)) {
+                throw unsupported("class intersections are not supported");
+            }
+            int low;
+            if (c == '\\') {
+                int[] predefined = parsePredefinedClass();
+                if (predefined != null) {
+                    parts.add(predefined);
+                    continue;
+                }
+                low = parseEscapedChar();
+            } else {
+                low = c;
+                pos += Character.charCount(c);
+            }
+            int high = low;
+            if (pos + 1 < regex.length() && peek() == '-' && regex.charAt(pos + 1) != ']') {
+                pos++;
+                int h = regex.codePointAt(pos);
+                if (h == '[') {
+                    throw unsupported("nested classes are not supported");
+                }
+                if (h == '\\') {
+                    if (pos + 1 < regex.length() && "dDwWsS".indexOf(regex.charAt(pos + 1)) >= 0) {
+                        throw unsupported("of the range at index " + pos);
+                    }
+                    high = parseEscapedChar();
+                } else {
+                    high = h;
+                    pos += Character.charCount(h);
+                }
+                if (high < low) {
+                    throw unsupported("of the range at index " + pos);
+                }
+            }
+            parts.add(caseInsensitive(new int[]{low, high}));
+        }
+        int[] ranges = union(parts);
+        return negated ? complement(ranges) : ranges;
+    }
+
+    private int[] literal(int c) {
+        return caseInsensitive(new int[]{c, c});
+    }
+
+    /**
+     * Adds the other case of the ASCII letters in a range when matching case insensitively, as {@link Pattern}
+     * does unless UNICODE_CASE is set
+     */
+    private int[] caseInsensitive(int[] range) {
+        if (!has(Pattern.CASE_INSENSITIVE)) {
+            return range;
+        }
+        List<int[]> parts = new ArrayList<>();
+        parts.add(range);
+        addOtherCase(parts, range, 'a', 'z', 'A' - 'a');
+        addOtherCase(parts, range, 'A', 'Z', 'a' - 'A');
+        return union(parts);
+    }
+
+    private static void addOtherCase(List<int[]> parts, int[] range, int from, int to, int shift) {
+        int low = Math.max(range[0], from);
+        int high = Math.min(range[1], to);
+        if (low <= high) {
+            parts.add(new int[]{low + shift, high + shift});
+        }
+    }
+
+    /**
+     * A node of a parsed pattern
+     */
+    abstract static class Node {
+    }
+
+    static final class Chars extends Node {
+        final int[] ranges;
+
+        Chars(int[] ranges) {
+            this.ranges = ranges;
+        }
+    }
+
+    static final class Assertion extends Node {
+        final int assertion;
+
+        Assertion(int assertion) {
+            this.assertion = assertion;
+        }
+    }
+
+    static final class Sequence extends Node {
+        final List<Node> nodes;
+
+        Sequence(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    /**
+     * The characters of a {@code \Q...\E} quote, which are only used while parsing
+     */
+    static final class Quote extends Node {
+        final List<Node> nodes;
+
+        Quote(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    static final class Alternation extends Node {
+        final List<Node> nodes;
+
+        Alternation(List<Node> nodes) {
+            this.nodes = nodes;
+        }
+    }
+
+    static final class Repetition extends Node {
+        final Node node;
+        final int min;
+        final int max; // -1 for no maximum
+
+        Repetition(Node node, int min, int max) {
+            this.node = node;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * @return the sorted, non overlapping ranges that cover all of the given ones
+     */
+    static int[] union(List<int[]> parts) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int[] part : parts) {
+            for (int i = 0; i < part.length; i += 2) {
+                pairs.add(new int[]{part[i], part[i + 1]});
+            }
+        }
+        pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] ranges = new int[pairs.size() * 2];
+        int size = 0;
+        for (int[] pair : pairs) {
+            if (size > 0 && pair[0] <= ranges[size - 1] + 1) {
+                ranges[size - 1] = Math.max(ranges[size - 1], pair[1]);
+            } else {
+                ranges[size++] = pair[0];
+                ranges[size++] = pair[1];
+            }
+        }
+        return Arrays.copyOf(ranges, size);
+    }
+
+    /**
+     * @return the ranges of all the code points that are not in the given sorted ranges
+     */
+    static int[] complement(int[] ranges) {
+        int[] complement = new int[ranges.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                complement[size++] = next;
+                complement[size++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX_CODE_POINT) {
+            complement[size++] = next;
+            complement[size++] = MAX_CODE_POINT;
+        }
+        return Arrays.copyOf(complement, size);
+    }
+}
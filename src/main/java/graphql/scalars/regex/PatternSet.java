@@ -0,0 +1,222 @@
+package graphql.scalars.regex;
+
+import graphql.AssertException;
+import graphql.Internal;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The patterns of a regex scalar, which finds the first of them that matches a whole value.
+ * <p>
+ * When the patterns allow it they are fused into one alternation of capturing groups, {@code ((?flags:p1))|((?flags:p2))},
+ * so a value is matched in a single pass and the capturing group that took part in the match tells which pattern it
+ * was. Alternatives are tried in order, so this finds the same pattern as trying each pattern in turn. Patterns that
+ * use numeric back references, which would refer to the wrong groups once fused, set flags inline after their start,
+ * or use the {@link Pattern#LITERAL} or {@link Pattern#CANON_EQ} flags, which have no inline form, are matched one at
+ * a time instead.
+ * <p>
+ * Matchers are reused by each thread, rather than created for every value.
+ * <p>
+ * When linear time matching is asked for, the patterns are compiled into a {@link PatternAutomaton} instead.
+ * <p>
+ * Before a value is matched it is checked against the {@link PatternFilter} of the patterns, which rejects most values
+ * of the wrong length or alphabet without running them. When the patterns are matched one at a time, each pattern is
+ * only run on the values that pass its own filter.
+ */
+@Internal
+final class PatternSet {
+
+    // flags set inline at the start of a pattern, and anywhere in it
+    private static final Pattern LEADING_INLINE_FLAGS = Pattern.compile("^(?:\\(\\?[idmsuxU-]+\\))+");
+    private static final Pattern INLINE_FLAGS = Pattern.compile("\\(\\?[idmsuxU-]+\\)");
+
+    private final Pattern[] patterns;
+    // the fused pattern and the group of each pattern in it, or null if the patterns are matched one at a time
+    private final Pattern fused;
+    private final int[] groups;
+    private final ThreadLocal<Matcher[]> matchers;
+    private final PatternAutomaton automaton;
+    private final PatternFilter filter;
+    private final PatternFilter[] filters;
+
+    PatternSet(List<Pattern> patterns, boolean linearTime, PatternFilter hints) {
+        this.patterns = patterns.toArray(new Pattern[0]);
+        this.filters = new PatternFilter[this.patterns.length];
+        PatternFilter filter = null;
+        for (int i = 0; i < filters.length; i++) {
+            filters[i] = PatternFilter.of(this.patterns[i]);
+            filter = filter == null ? filters[i] : filter.or(filters[i]);
+        }
+        this.filter = filter == null ? hints : filter.and(hints);
+        this.automaton = linearTime ? PatternAutomaton.compile(patterns, AssertException::new) : null;
+        int[] groups = new int[this.patterns.length];
+        this.fused = this.patterns.length > 1 && !linearTime ? fuse(this.patterns, groups) : null;
+        this.groups = fused != null ? groups : null;
+        this.matchers = ThreadLocal.withInitial(this::newMatchers);
+    }
+
+    private Matcher[] newMatchers() {
+        if (fused != null) {
+            return new Matcher[]{fused.matcher("")};
+        }
+        Matcher[] matchers = new Matcher[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            matchers[i] = patterns[i].matcher("");
+        }
+        return matchers;
+    }
+
+    /**
+     * @return the pattern at the given index, in the order they are tried
+     */
+    Pattern get(int index) {
+        return patterns[index];
+    }
+
+    /**
+     * @return true if the patterns are matched in a single pass
+     */
+    boolean isFused() {
+        return fused != null;
+    }
+
+    /**
+     * @return the index of the first pattern that matches the whole value, or -1 if none do
+     */
+    int indexOf(String value) {
+        if (!filter.mayMatch(value)) {
+            return -1;
+        }
+        if (automaton != null) {
+            return automaton.indexOf(value);
+        }
+        Matcher[] matchers = this.matchers.get();
+        if (fused != null) {
+            Matcher matcher = matchers[0].reset(value);
+            int index = -1;
+            if (matcher.matches()) {
+                for (int i = 0; i < groups.length && index < 0; i++) {
+                    if (matcher.start(groups[i]) >= 0) {
+                        index = i;
+                    }
+                }
+            }
+            // do not keep the value alive once it has been matched
+            matcher.reset("");
+            return index;
+        }
+        int index = -1;
+        for (int i = 0; i < matchers.length && index < 0; i++) {
+            if (matchers.length > 1 && !filters[i].mayMatch(value)) {
+                continue;
+            }
+            if (matchers[i].reset(value).matches()) {
+                index = i;
+            }
+            matchers[i].reset("");
+        }
+        return index;
+    }
+
+    /**
+     * Fuses the patterns into one alternation, filling in the capturing group of each pattern
+     *
+     * @return the fused pattern, or null if the patterns can not be fused
+     */
+    private static Pattern fuse(Pattern[] patterns, int[] groups) {
+        StringBuilder regex = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < patterns.length; i++) {
+            Pattern pattern = patterns[i];
+            String flags = inlineFlags(pattern.flags());
+            if (flags == null || hasInlineFlagsAfterStart(pattern.pattern()) || hasNumericBackReference(pattern.pattern())) {
+                return null;
+            }
+            if (i > 0) {
+                regex.append('|');
+            }
+            regex.append("((?").append(flags).append(':').append(pattern.pattern());
+            if ((pattern.flags() & Pattern.COMMENTS) != 0) {
+                // ends a trailing comment, which would otherwise run over the closing parentheses
+                regex.append('\n');
+            }
+            regex.append("))");
+            groups[i] = group;
+            group += 1 + pattern.matcher("").groupCount();
+        }
+        Pattern fused;
+        try {
+            fused = Pattern.compile(regex.toString());
+        } catch (PatternSyntaxException e) {
+            // for example patterns that use the same group name
+            return null;
+        }
+        // an unterminated \Q quote or the like could make the alternation parse differently than intended
+        return fused.matcher("").groupCount() == group - 1 ? fused : null;
+    }
+
+    /**
+     * @return the flags as inline flags, or null if some of them have no inline form
+     */
+    private static String inlineFlags(int flags) {
+        if ((flags & (Pattern.LITERAL | Pattern.CANON_EQ)) != 0) {
+            return null;
+        }
+        StringBuilder inline = new StringBuilder();
+        appendFlag(inline, flags, Pattern.CASE_INSENSITIVE, 'i');
+        appendFlag(inline, flags, Pattern.UNIX_LINES, 'd');
+        appendFlag(inline, flags, Pattern.MULTILINE, 'm');
+        appendFlag(inline, flags, Pattern.DOTALL, 's');
+        appendFlag(inline, flags, Pattern.UNICODE_CASE, 'u');
+        appendFlag(inline, flags, Pattern.COMMENTS, 'x');
+        appendFlag(inline, flags, Pattern.UNICODE_CHARACTER_CLASS, 'U');
+        return inline.toString();
+    }
+
+    private static void appendFlag(StringBuilder inline, int flags, int flag, char c) {
+        if ((flags & flag) != 0) {
+            inline.append(c);
+        }
+    }
+
+    /**
+     * {@link Pattern#flags()} includes the flags set inline outside of any group, so it only gives the flags that
+     * the whole pattern is matched with when those are set at its start
+     *
+     * @return true if the regex might set flags inline after its start
+     */
+    private static boolean hasInlineFlagsAfterStart(String regex) {
+        Matcher leading = LEADING_INLINE_FLAGS.matcher(regex);
+        int start = leading.lookingAt() ? leading.end() : 0;
+        return INLINE_FLAGS.matcher(regex).region(start, regex.length()).find();
+    }
+
+    /**
+     * @return true if the regex contains a back reference such as {@code \1}, outside of {@code \Q...\E} quotes
+     */
+    private static boolean hasNumericBackReference(String regex) {
+        int i = 0;
+        while (i < regex.length() - 1) {
+            if (regex.charAt(i) != '\\') {
+                i++;
+                continue;
+            }
+            char next = regex.charAt(i + 1);
+            if (next == 'Q') {
+                int end = regex.indexOf("\\E", i + 2);
+                if (end < 0) {
+                    return false;
+                }
+                i = end + 2;
+            } else if (next >= '1' && next <= '9') {
+                return true;
+            } else {
+                i += 2;
+            }
+        }
+        return false;
+    }
+}
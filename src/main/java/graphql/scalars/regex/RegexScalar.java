@@ -6,6 +6,7 @@ import graphql.PublicApi;
 import graphql.execution.CoercedVariables;
 import graphql.language.StringValue;
 import graphql.language.Value;
+import graphql.scalars.util.LiteralCachingScalar;
 import graphql.schema.Coercing;
 import graphql.schema.CoercingParseLiteralException;
 import graphql.schema.CoercingParseValueException;
@@ -16,8 +17,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.function.Function;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static graphql.scalars.util.Kit.typeName;
@@ -39,6 +40,9 @@ public final class RegexScalar {
         private String name;
         private String description;
         private final List<Pattern> patterns = new ArrayList<>();
+        private boolean linearTime;
+        private int maxLength = Integer.MAX_VALUE;
+        private String charset;
 
         /**
          * Sets the name of the regex scalar
@@ -88,64 +92,135 @@ public final class RegexScalar {
             return this;
         }
 
+        /**
+         * Matches values in time linear in their length, rather than with {@link java.util.regex.Matcher}, which
+         * backtracks and can take exponential time on values crafted against some patterns. Use this when the scalar
+         * validates untrusted input.
+         * <p>
+         * Only part of the {@link java.util.regex.Pattern} syntax is supported: literals, character classes, groups,
+         * alternation, greedy and reluctant quantifiers, the {@code ^ $ \A \z \Z} anchors and the
+         * {@link java.util.regex.Pattern#CASE_INSENSITIVE}, {@link java.util.regex.Pattern#DOTALL} and
+         * {@link java.util.regex.Pattern#UNIX_LINES} flags. Building the scalar fails if a pattern uses anything else,
+         * such as back references, lookaround or possessive quantifiers.
+         *
+         * @param linearTime true to match values in linear time
+         *
+         * @return this builder
+         */
+        public Builder linearTime(boolean linearTime) {
+            this.linearTime = linearTime;
+            return this;
+        }
+
+        /**
+         * Sets the maximum length of values, as given by {@link String#length()}. Longer values are rejected without
+         * being matched, even if a pattern would match them.
+         *
+         * @param maxLength the maximum length of values
+         *
+         * @return this builder
+         */
+        public Builder maxLength(int maxLength) {
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        /**
+         * Sets the characters that values can contain. Values with other characters are rejected without being
+         * matched, even if a pattern would match them.
+         *
+         * @param charset the characters that values can contain, such as {@code "0123456789abcdef-"}
+         *
+         * @return this builder
+         */
+        public Builder charset(String charset) {
+            this.charset = charset;
+            return this;
+        }
+
         /**
          * @return the built {@link graphql.scalars.regex.RegexScalar}
          */
         public GraphQLScalarType build() {
             Assert.assertNotNull(name);
-            return regexScalarImpl(name, description, patterns);
+            Assert.assertTrue(maxLength >= 0, () -> "maxLength must not be negative");
+            return regexScalarImpl(name, description, patterns, linearTime, PatternFilter.hints(maxLength, charset));
         }
     }
 
-    private static GraphQLScalarType regexScalarImpl(String name, String description, List<Pattern> patterns) {
+    /**
+     * Finds which of the patterns of a regex scalar a value matches. When a value matches several patterns this
+     * is the first of them, in the order they were added to the builder.
+     *
+     * @param scalar a scalar built by a {@link Builder}, which may be wrapped with a literal cache
+     * @param value  the value to match
+     *
+     * @return the first pattern that matches the whole value, or empty if none do
+     */
+    public static Optional<Pattern> findMatchingPattern(GraphQLScalarType scalar, String value) {
+        Coercing<?, ?> coercing = LiteralCachingScalar.unwrap(scalar.getCoercing());
+        Assert.assertTrue(coercing instanceof RegexCoercing, () -> "The '" + scalar.getName() + "' scalar is not a regex scalar");
+        return ((RegexCoercing) coercing).findMatchingPattern(value);
+    }
+
+    private static GraphQLScalarType regexScalarImpl(String name, String description, List<Pattern> patterns, boolean linearTime, PatternFilter hints) {
         Assert.assertNotNull(patterns);
 
-        Coercing<String, String> coercing = new Coercing<>() {
-            @Override
-            public String serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
-                String value = String.valueOf(input);
-                return matches(value, CoercingSerializeException::new);
-            }
+        return GraphQLScalarType.newScalar()
+                .name(name)
+                .description(description)
+                .coercing(new RegexCoercing(name, new PatternSet(patterns, linearTime, hints)))
+                .build();
+    }
 
-            @Override
-            public String parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
-                String value = String.valueOf(input);
-                return matches(value, CoercingParseValueException::new);
-            }
+    private static final class RegexCoercing implements Coercing<String, String> {
+        private final String name;
+        private final PatternSet patterns;
 
-            @Override
-            public String parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
-                if (!(input instanceof StringValue)) {
-                    throw new CoercingParseLiteralException(
-                            "Expected AST type 'StringValue' but was '" + typeName(input) + "'."
-                    );
-                }
-                String value = ((StringValue) input).getValue();
-                return matches(value, CoercingParseLiteralException::new);
-            }
+        private RegexCoercing(String name, PatternSet patterns) {
+            this.name = name;
+            this.patterns = patterns;
+        }
 
-            @Override
-            public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
-                String s = serialize(input, graphQLContext, locale);
-                return StringValue.newStringValue(s).build();
-            }
+        @Override
+        public String serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+            String value = String.valueOf(input);
+            return matches(value, CoercingSerializeException::new);
+        }
 
+        @Override
+        public String parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+            String value = String.valueOf(input);
+            return matches(value, CoercingParseValueException::new);
+        }
 
-            private String matches(String value, Function<String, RuntimeException> exceptionMaker) {
-                for (Pattern pattern : patterns) {
-                    Matcher matcher = pattern.matcher(value);
-                    if (matcher.matches()) {
-                        return value;
-                    }
-                }
-                throw exceptionMaker.apply("Unable to accept a value into the '" + name + "' scalar.  It does not match the regular expressions.");
+        @Override
+        public String parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+            if (!(input instanceof StringValue)) {
+                throw new CoercingParseLiteralException(
+                        "Expected AST type 'StringValue' but was '" + typeName(input) + "'."
+                );
             }
-        };
+            String value = ((StringValue) input).getValue();
+            return matches(value, CoercingParseLiteralException::new);
+        }
 
-        return GraphQLScalarType.newScalar()
-                .name(name)
-                .description(description)
-                .coercing(coercing)
-                .build();
+        @Override
+        public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+            String s = serialize(input, graphQLContext, locale);
+            return StringValue.newStringValue(s).build();
+        }
+
+        private Optional<Pattern> findMatchingPattern(String value) {
+            int index = patterns.indexOf(value);
+            return index >= 0 ? Optional.of(patterns.get(index)) : Optional.empty();
+        }
+
+        private String matches(String value, Function<String, RuntimeException> exceptionMaker) {
+            if (patterns.indexOf(value) >= 0) {
+                return value;
+            }
+            throw exceptionMaker.apply("Unable to accept a value into the '" + name + "' scalar.  It does not match the regular expressions.");
+        }
     }
 }
@@ -0,0 +1,232 @@
+package graphql.scalars.util;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.PublicApi;
+import graphql.execution.CoercedVariables;
+import graphql.language.ArrayValue;
+import graphql.language.EnumValue;
+import graphql.language.ObjectField;
+import graphql.language.ObjectValue;
+import graphql.language.StringValue;
+import graphql.language.Value;
+import graphql.language.VariableReference;
+import graphql.schema.Coercing;
+import graphql.schema.GraphQLScalarType;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread safe cache of parsed literals, keyed on the identity of the literal's AST node.
+ * <p>
+ * The AST of a document is immutable, so when graphql-java executes a persisted or cached document again it passes
+ * the very same literal nodes to {@link Coercing#parseLiteral(Value, CoercedVariables, GraphQLContext, Locale)}.
+ * A scalar that uses this cache converts each of those literals once and then returns the cached value. Literals
+ * that contain a variable reference depend on the variables of each request and are never cached.
+ * <p>
+ * Nodes are held weakly, so a document that is dropped from a document cache can still be collected. Values that
+ * keep their literal, see {@link LiteralView}, would keep the document alive and are never cached. The cache is
+ * direct mapped, so a lookup never blocks and a new literal simply replaces whatever literal was held in its slot.
+ * The size of a cached value is estimated from the size of its literal, and a value is not cached if it would take
+ * the estimated total over the byte limit.
+ * <p>
+ * Only use it with scalars whose parsed values are immutable and do not depend on the context or locale, which is
+ * true of all the extended scalars. Pass it to
+ * {@link graphql.scalars.ExtendedScalars#withLiteralCache(GraphQLScalarType, LiteralCache)} to create a scalar that
+ * uses it. One cache can be shared between scalars.
+ */
+@PublicApi
+public final class LiteralCache {
+
+    // rough sizes of an AST node, of a string and of a reference
+    private static final long NODE_BYTES = 32;
+    private static final long STRING_BYTES = 40;
+    private static final long REFERENCE_BYTES = 8;
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+    private final long maxBytes;
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReferenceQueue<Value<?>> collected = new ReferenceQueue<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache that holds at most the given number of literals
+     *
+     * @param maxEntries the maximum number of literals held, rounded up to a power of two
+     * @param maxBytes   the maximum estimated size of the cached values in bytes
+     */
+    public LiteralCache(int maxEntries, long maxBytes) {
+        Assert.assertTrue(maxEntries > 0 && maxEntries <= 1 << 20, () -> "maxEntries must be between 1 and 1048576");
+        Assert.assertTrue(maxBytes > 0, () -> "maxBytes must be positive");
+        int size = Integer.highestOneBit(maxEntries);
+        if (size < maxEntries) {
+            size <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return the number of literals that were parsed from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of literals that had to be parsed
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the ratio of hits to lookups, or 0 if there have been no lookups
+     */
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0d : (double) hitCount / total;
+    }
+
+    /**
+     * @return the maximum number of literals held by this cache
+     */
+    public int getMaxEntries() {
+        return entries.length();
+    }
+
+    /**
+     * @return the estimated size in bytes of the values held by this cache
+     */
+    public long getEstimatedBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Removes all cached values and resets the counters
+     */
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.getAndSet(i, null);
+            if (entry != null) {
+                bytes.addAndGet(-entry.bytes);
+            }
+        }
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Parses a literal with the given coercing, or returns the value it was parsed into before
+     */
+    Object parseLiteral(Coercing<?, ?> coercing, Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) {
+        if (input == null) {
+            return coercing.parseLiteral(null, variables, graphQLContext, locale);
+        }
+        int slot = slot(input);
+        Entry entry = entries.get(slot);
+        if (entry != null && entry.coercing == coercing && entry.get() == input) {
+            hits.increment();
+            return entry.value;
+        }
+        misses.increment();
+        Object value = coercing.parseLiteral(input, variables, graphQLContext, locale);
+        if (value != null && !(value instanceof LiteralView)) {
+            long size = estimateBytes(input);
+            if (size >= 0) {
+                put(slot, new Entry(input, collected, slot, coercing, value, size));
+            }
+        }
+        return value;
+    }
+
+    private int slot(Value<?> input) {
+        int h = System.identityHashCode(input);
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void put(int slot, Entry entry) {
+        removeCollected();
+        Entry old = entries.get(slot);
+        long freed = old != null ? old.bytes : 0;
+        if (bytes.get() - freed + entry.bytes > maxBytes) {
+            return;
+        }
+        if (entries.compareAndSet(slot, old, entry)) {
+            bytes.addAndGet(entry.bytes - freed);
+        }
+    }
+
+    /**
+     * Frees the slots of literals that have been garbage collected, along with their values
+     */
+    private void removeCollected() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            Entry entry = (Entry) reference;
+            if (entries.compareAndSet(entry.slot, entry, null)) {
+                bytes.addAndGet(-entry.bytes);
+            }
+        }
+    }
+
+    /**
+     * @return the estimated size of the value of a literal, or -1 if the literal contains a variable reference
+     */
+    private static long estimateBytes(Value<?> input) {
+        long total = 0;
+        Deque<Value<?>> pending = new ArrayDeque<>();
+        pending.push(input);
+        while (!pending.isEmpty()) {
+            Value<?> value = pending.pop();
+            total += NODE_BYTES;
+            if (value instanceof VariableReference) {
+                return -1;
+            }
+            if (value instanceof StringValue) {
+                total += STRING_BYTES + 2L * ((StringValue) value).getValue().length();
+            } else if (value instanceof EnumValue) {
+                total += STRING_BYTES + 2L * ((EnumValue) value).getName().length();
+            } else if (value instanceof ArrayValue) {
+                //noinspection rawtypes
+                for (Value element : ((ArrayValue) value).getValues()) {
+                    total += REFERENCE_BYTES;
+                    pending.push(element);
+                }
+            } else if (value instanceof ObjectValue) {
+                for (ObjectField field : ((ObjectValue) value).getObjectFields()) {
+                    total += STRING_BYTES + 2L * field.getName().length() + 2 * REFERENCE_BYTES;
+                    pending.push(field.getValue());
+                }
+            }
+        }
+        return total;
+    }
+
+    private static final class Entry extends WeakReference<Value<?>> {
+        final int slot;
+        final Coercing<?, ?> coercing;
+        final Object value;
+        final long bytes;
+
+        Entry(Value<?> literal, ReferenceQueue<Value<?>> queue, int slot, Coercing<?, ?> coercing, Object value, long bytes) {
+            super(literal, queue);
+            this.slot = slot;
+            this.coercing = coercing;
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package graphql.scalars.util;
+
+import graphql.Assert;
+import graphql.GraphQLContext;
+import graphql.Internal;
+import graphql.execution.CoercedVariables;
+import graphql.language.Value;
+import graphql.schema.Coercing;
+import graphql.schema.CoercingParseLiteralException;
+import graphql.schema.CoercingParseValueException;
+import graphql.schema.CoercingSerializeException;
+import graphql.schema.GraphQLScalarType;
+
+import java.util.Locale;
+
+/**
+ * Access this via {@link graphql.scalars.ExtendedScalars#withLiteralCache(GraphQLScalarType, LiteralCache)}
+ */
+@Internal
+public final class LiteralCachingScalar {
+
+    private LiteralCachingScalar() {}
+
+    public static GraphQLScalarType newLiteralCachingScalar(GraphQLScalarType scalar, LiteralCache literalCache) {
+        Assert.assertNotNull(scalar);
+        Assert.assertNotNull(literalCache);
+        return GraphQLScalarType.newScalar(scalar)
+                .coercing(new CachingCoercing(scalar.getCoercing(), literalCache))
+                .build();
+    }
+
+    /**
+     * @param coercing the coercing of a scalar
+     *
+     * @return the coercing that a literal caching scalar delegates to, or the given coercing if it does not cache literals
+     */
+    public static Coercing<?, ?> unwrap(Coercing<?, ?> coercing) {
+        return coercing instanceof CachingCoercing ? ((CachingCoercing) coercing).delegate : coercing;
+    }
+
+    private static final class CachingCoercing implements Coercing<Object, Object> {
+        private final Coercing<?, ?> delegate;
+        private final LiteralCache literalCache;
+
+        private CachingCoercing(Coercing<?, ?> delegate, LiteralCache literalCache) {
+            this.delegate = delegate;
+            this.literalCache = literalCache;
+        }
+
+        @Override
+        public Object serialize(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingSerializeException {
+            return delegate.serialize(input, graphQLContext, locale);
+        }
+
+        @Override
+        public Object parseValue(Object input, GraphQLContext graphQLContext, Locale locale) throws CoercingParseValueException {
+            return delegate.parseValue(input, graphQLContext, locale);
+        }
+
+        @Override
+        public Object parseLiteral(Value<?> input, CoercedVariables variables, GraphQLContext graphQLContext, Locale locale) throws CoercingParseLiteralException {
+            return literalCache.parseLiteral(delegate, input, variables, graphQLContext, locale);
+        }
+
+        @Override
+        public Value<?> valueToLiteral(Object input, GraphQLContext graphQLContext, Locale locale) {
+            return delegate.valueToLiteral(input, graphQLContext, locale);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package graphql.scalars.util;
+
+import graphql.Internal;
+
+/**
+ * A parsed value that keeps the literal it was parsed from, such as the lazy views of an Object scalar.
+ * <p>
+ * A {@link LiteralCache} does not cache these values, as holding one would keep its literal, and so the whole
+ * document, from being collected.
+ */
+@Internal
+public interface LiteralView {
+}
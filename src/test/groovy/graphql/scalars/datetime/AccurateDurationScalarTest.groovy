@@ -8,6 +8,7 @@ import graphql.schema.CoercingParseValueException
 import graphql.schema.CoercingSerializeException
 import spock.lang.Unroll
 
+import java.time.Duration
 import java.time.Period
 import java.time.temporal.ChronoUnit
 
@@ -36,6 +37,26 @@ class AccurateDurationScalarTest extends AbstractScalarTest {
         mkDuration(amount: 123456, unit: ChronoUnit.HOURS) | mkDuration("PT123456H")
     }
 
+    @Unroll
+    def "accurateduration parseValue accepts the same edge cases as Duration.parse"() {
+
+        when:
+        def result = coercing.parseValue(input, graphQLContext, locale)
+        then:
+        result == Duration.parse(input)
+        where:
+        input << [
+                "pt1.s",
+                "PT1,5S",
+                "+P1D",
+                "P1Dt",
+                "PT-0.5S",
+                "-PT-0.5S",
+                "P-1DT+2H-3M+4.123456789S",
+                "PT-9223372036854775808S",
+        ]
+    }
+
     @Unroll
     def "accurateduration valueToLiteral"() {
 
@@ -62,14 +83,21 @@ class AccurateDurationScalarTest extends AbstractScalarTest {
         then:
         thrown(expectedValue)
         where:
-        input              | expectedValue
-        "P1M"              | CoercingParseValueException
-        "P1MT2H"           | CoercingParseValueException
-        "P2W"              | CoercingParseValueException
-        "P3Y"              | CoercingParseValueException
-        123                | CoercingParseValueException
-        ""                 | CoercingParseValueException
-        Period.of(1, 2, 3) | CoercingParseValueException
+        input                    | expectedValue
+        "P1M"                    | CoercingParseValueException
+        "P1MT2H"                 | CoercingParseValueException
+        "P2W"                    | CoercingParseValueException
+        "P3Y"                    | CoercingParseValueException
+        123                      | CoercingParseValueException
+        ""                       | CoercingParseValueException
+        "P"                      | CoercingParseValueException
+        "PT"                     | CoercingParseValueException
+        "P1DT"                   | CoercingParseValueException
+        "PT1S1M"                 | CoercingParseValueException
+        "PT1.1234567890S"        | CoercingParseValueException
+        "P106751991167301D"      | CoercingParseValueException
+        "PT9223372036854775808S" | CoercingParseValueException
+        Period.of(1, 2, 3)       | CoercingParseValueException
     }
 
     def "accurateduration AST literal"() {
@@ -98,6 +126,10 @@ class AccurateDurationScalarTest extends AbstractScalarTest {
         "P1DT-2H3M4S"                                      | "PT22H3M4S"
         mkDuration("P1DT-2H3M4S")                          | "PT22H3M4S"
         mkDuration(amount: 123456, unit: ChronoUnit.HOURS) | "PT123456H"
+        Duration.ZERO                                      | "PT0S"
+        Duration.ofNanos(-1)                               | "PT-0.000000001S"
+        Duration.ofMillis(-61500)                          | "PT-1M-1.5S"
+        Duration.ofSeconds(Long.MIN_VALUE)                 | "PT-2562047788015215H-30M-8S"
     }
 
     def "accurateduration serialisation bad inputs"() {
@@ -3,6 +3,7 @@ package graphql.scalars.datetime
 import graphql.language.StringValue
 import graphql.scalars.ExtendedScalars
 import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseValueException
 import spock.lang.Unroll
 
 import static graphql.scalars.util.TestKit.mkLocalDate
@@ -68,4 +69,46 @@ class DateScalarTest extends AbstractScalarTest {
         mkZonedDT(year: 1980, hour: 3)  | mkStringValue("1980-08-08")
     }
 
+    @Unroll
+    def "full date parseValue edge cases"() {
+
+        when:
+        def result = coercing.parseValue(input, graphQLContext, locale)
+        then:
+        result == expectedValue
+        where:
+        input          | expectedValue
+        "2020-02-29"   | mkLocalDate("2020-02-29")
+        "2010-02-30"   | mkLocalDate("2010-02-28") // resolved smartly to the end of the month
+        "2010-04-31"   | mkLocalDate("2010-04-30")
+        "0001-01-01"   | mkLocalDate("0001-01-01")
+        "+10000-01-01" | mkLocalDate("+10000-01-01")
+    }
+
+    @Unroll
+    def "full date bad inputs"() {
+
+        when:
+        coercing.parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        where:
+        input << ["2010-02-32", "2010-13-01", "0000-01-01", "10000-01-01", "2010-1-01", "2010/01/01", "", 666]
+    }
+
+    @Unroll
+    def "full date serialize edge cases"() {
+
+        when:
+        def result = coercing.serialize(input, graphQLContext, locale)
+        then:
+        result == expectedValue
+        where:
+        input                          | expectedValue
+        mkLocalDate("0001-01-01")      | "0001-01-01"
+        mkLocalDate("9999-12-31")      | "9999-12-31"
+        mkLocalDate("+10000-01-01")    | "+10000-01-01"
+        mkLocalDate("0000-06-15")      | "0001-06-15" // year of era
+    }
+
 }
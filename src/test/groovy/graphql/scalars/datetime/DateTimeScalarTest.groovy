@@ -8,6 +8,9 @@ import graphql.schema.CoercingParseValueException
 import graphql.schema.CoercingSerializeException
 import spock.lang.Unroll
 
+import java.time.OffsetDateTime
+import java.time.format.DateTimeFormatter
+
 import static graphql.scalars.util.TestKit.mkInstant
 import static graphql.scalars.util.TestKit.mkIntValue
 import static graphql.scalars.util.TestKit.mkLocalDT
@@ -37,6 +40,47 @@ class DateTimeScalarTest extends AbstractScalarTest {
         mkInstant(year: 1980, hour: 3)  | mkOffsetDT("1980-08-08T03:10:09.00Z")
     }
 
+    @Unroll
+    def "datetime parseValue accepts the same edge cases as ISO_OFFSET_DATE_TIME"() {
+
+        when:
+        def result = coercing.parseValue(input, graphQLContext, locale)
+        then:
+        result == OffsetDateTime.parse(input, DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+        where:
+        input << [
+                "1985-04-12t23:20:50.52z",
+                "1985-04-12T23:20Z",
+                "1985-04-12T23:20:50.123456789+05",
+                "1985-04-12T23:20:50+05:30:15",
+                "2020-02-29T00:00:00.-18:00",
+                "+10000-01-01T00:00:00Z",
+                "-0001-12-31T23:59:59.9+01:00",
+        ]
+    }
+
+    @Unroll
+    def "datetime parseValue rejects malformed values"() {
+
+        when:
+        coercing.parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        where:
+        input << [
+                "",
+                "10000-01-01T00:00:00Z",
+                "+1000-01-01T00:00:00Z",
+                "-0000-01-01T00:00:00Z",
+                "2019-02-29T00:00:00Z",
+                "2020-01-01T00:00:60Z",
+                "2020-01-01T00:00:00.1234567890Z",
+                "2020-01-01T00:00:00+18:01",
+                "2020-01-01T00:00:00+0530",
+                "2020-01-01 00:00:00Z",
+        ]
+    }
+
     @Unroll
     def "datetime valueToLiteral"() {
 
@@ -101,6 +145,9 @@ class DateTimeScalarTest extends AbstractScalarTest {
         mkOffsetDT(year: 1980, hour: 3) | "1980-08-08T03:10:09.000+10:00"
         mkZonedDT(year: 1980, hour: 3)  | "1980-08-08T03:10:09.000+10:00"
         mkInstant(year: 1980, hour: 3)  | "1980-08-08T03:10:09.000Z"
+        "+10000-01-01T00:00:00.1239Z"   | "+10000-01-01T00:00:00.123Z"
+        "-0001-12-31T23:59:59+05:30:15" | "-0001-12-31T23:59:59.000+05:30"
+        "2020-02-29T00:00:00-00:00:30"  | "2020-02-29T00:00:00.000Z"
     }
 
     def "datetime serialisation bad inputs"() {
@@ -140,4 +187,33 @@ class DateTimeScalarTest extends AbstractScalarTest {
         mkStringValue("2010-02-11T21:22:53.108+25:11")  | CoercingParseLiteralException // 25 is not a valid hour for offset
     }
 
+    def "datetime serialisation with a cache gives the same output and counts hits"() {
+        def cache = new DateTimeSerializationCache(16)
+        def cachedCoercing = ExtendedScalars.newDateTimeScalar(cache).getCoercing()
+
+        when:
+        def results = [
+                cachedCoercing.serialize(mkOffsetDT("2022-11-24T01:00:01.02+00:00"), graphQLContext, locale),
+                cachedCoercing.serialize(mkOffsetDT("2022-11-24T01:00:01.5+00:00"), graphQLContext, locale),
+                cachedCoercing.serialize(mkOffsetDT("2022-11-24T01:00:01-08:00"), graphQLContext, locale),
+                cachedCoercing.serialize(mkOffsetDT("2022-11-24T01:00:02Z"), graphQLContext, locale),
+        ]
+        then:
+        results == [
+                "2022-11-24T01:00:01.020Z",
+                "2022-11-24T01:00:01.500Z",
+                "2022-11-24T01:00:01.000-08:00",
+                "2022-11-24T01:00:02.000Z",
+        ]
+        cache.getHitCount() == 2
+        cache.getMissCount() == 2
+        cache.getHitRate() == 0.5d
+
+        when:
+        cache.clear()
+        then:
+        cache.getHitCount() == 0
+        cache.getMissCount() == 0
+        cachedCoercing.serialize("1985-04-12T23:20:50.52Z", graphQLContext, locale) == "1985-04-12T23:20:50.520Z"
+    }
 }
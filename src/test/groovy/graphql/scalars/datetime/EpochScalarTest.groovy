@@ -0,0 +1,166 @@
+package graphql.scalars.datetime
+
+import graphql.AssertException
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.CoercingSerializeException
+import spock.lang.Shared
+import spock.lang.Unroll
+
+import java.time.Instant
+import java.time.LocalDateTime
+import java.time.ZoneOffset
+import java.time.ZonedDateTime
+import java.time.temporal.ChronoUnit
+
+import static graphql.scalars.util.TestKit.mkFloatValue
+import static graphql.scalars.util.TestKit.mkIntValue
+import static graphql.scalars.util.TestKit.mkStringValue
+
+class EpochScalarTest extends AbstractScalarTest {
+
+    @Shared
+    def seconds = ExtendedScalars.newEpochScalar("Seconds").build().getCoercing()
+    @Shared
+    def millis = ExtendedScalars.newEpochScalar("Millis").unit(ChronoUnit.MILLIS).build().getCoercing()
+    @Shared
+    def nanos = ExtendedScalars.newEpochScalar("Nanos").unit(ChronoUnit.NANOS).build().getCoercing()
+    @Shared
+    def millisAsLong = ExtendedScalars.newEpochScalar("MillisAsLong").unit(ChronoUnit.MILLIS).parseToLong().build().getCoercing()
+
+    @Unroll
+    def "epoch parseValue to Instant"() {
+
+        when:
+        def result = coercing.parseValue(input, graphQLContext, locale)
+        then:
+        result == expectedValue
+        where:
+        coercing | input                   | expectedValue
+        seconds  | "1609459200"            | Instant.parse("2021-01-01T00:00:00Z")
+        seconds  | 1609459200              | Instant.parse("2021-01-01T00:00:00Z")
+        seconds  | -1L                     | Instant.parse("1969-12-31T23:59:59Z")
+        millis   | "1609459200123"         | Instant.parse("2021-01-01T00:00:00.123Z")
+        millis   | 1609459200123L          | Instant.parse("2021-01-01T00:00:00.123Z")
+        millis   | new BigInteger("-1")    | Instant.parse("1969-12-31T23:59:59.999Z")
+        nanos    | "1609459200123456789"   | Instant.parse("2021-01-01T00:00:00.123456789Z")
+        nanos    | "-1"                    | Instant.parse("1969-12-31T23:59:59.999999999Z")
+        nanos    | "-9223372036854775808"  | Instant.ofEpochSecond(-9223372037L, 145224192)
+    }
+
+    @Unroll
+    def "epoch parseValue to Long"() {
+
+        when:
+        def result = millisAsLong.parseValue(input, graphQLContext, locale)
+        then:
+        result == expectedValue
+        result instanceof Long
+        where:
+        input                  | expectedValue
+        "1609459200123"        | 1609459200123L
+        "-42"                  | -42L
+        "9223372036854775807"  | Long.MAX_VALUE
+        42                     | 42L
+        1609459200123L         | 1609459200123L
+    }
+
+    @Unroll
+    def "epoch parseValue bad inputs"() {
+
+        when:
+        coercing.parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        where:
+        coercing     | input
+        seconds      | "31556889864403200"
+        seconds      | Long.MAX_VALUE
+        millis       | ""
+        millis       | "-"
+        millis       | "+1"
+        millis       | "1.5"
+        millis       | 1.5d
+        millisAsLong | "9223372036854775808"
+        millisAsLong | "-9223372036854775809"
+        millisAsLong | new BigInteger("9223372036854775808")
+        millisAsLong | Instant.EPOCH
+    }
+
+    @Unroll
+    def "epoch parseLiteral"() {
+
+        when:
+        def result = coercing.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        result == expectedValue
+        where:
+        coercing     | input                          | expectedValue
+        seconds      | mkIntValue(1609459200)         | Instant.parse("2021-01-01T00:00:00Z")
+        millis       | mkStringValue("1609459200123") | Instant.parse("2021-01-01T00:00:00.123Z")
+        millisAsLong | mkIntValue("1609459200123")    | 1609459200123L
+    }
+
+    @Unroll
+    def "epoch parseLiteral bad inputs"() {
+
+        when:
+        coercing.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+        where:
+        coercing     | input
+        millis       | mkStringValue("abc")
+        millis       | mkFloatValue("1.5")
+        millisAsLong | mkIntValue("9223372036854775808")
+    }
+
+    @Unroll
+    def "epoch serialize"() {
+
+        when:
+        def result = coercing.serialize(input, graphQLContext, locale)
+        then:
+        result == expectedValue
+        where:
+        coercing | input                                                                       | expectedValue
+        seconds  | Instant.parse("2021-01-01T00:00:00.999Z")                                   | 1609459200L
+        seconds  | ZonedDateTime.ofInstant(Instant.ofEpochSecond(1609459200), ZoneOffset.UTC)  | 1609459200L
+        millis   | Instant.parse("2021-01-01T00:00:00.123Z")                                   | 1609459200123L
+        millis   | 1609459200123L                                                              | 1609459200123L
+        millis   | 42                                                                          | 42L
+        millis   | "-42"                                                                       | -42L
+        nanos    | Instant.parse("1969-12-31T23:59:59.999999999Z")                             | -1L
+    }
+
+    @Unroll
+    def "epoch serialize bad inputs"() {
+
+        when:
+        coercing.serialize(input, graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+        where:
+        coercing | input
+        nanos    | Instant.MAX
+        millis   | LocalDateTime.of(2021, 1, 1, 0, 0)
+        millis   | "not a number"
+        millis   | new Object()
+    }
+
+    def "epoch valueToLiteral"() {
+
+        expect:
+        millis.valueToLiteral(Instant.parse("2021-01-01T00:00:00.123Z"), graphQLContext, locale).isEqualTo(mkIntValue("1609459200123"))
+    }
+
+    def "epoch builder rejects other units"() {
+
+        when:
+        ExtendedScalars.newEpochScalar("Days").unit(ChronoUnit.DAYS).build()
+        then:
+        thrown(AssertException)
+    }
+}
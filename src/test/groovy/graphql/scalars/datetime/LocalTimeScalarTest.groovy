@@ -27,6 +27,9 @@ class LocalTimeScalarTest extends AbstractScalarTest {
         "16:39:57.000000000" | mkLocalT("16:39:57")
         "16:39:57.0"         | mkLocalT("16:39:57")
         "16:39:57"           | mkLocalT("16:39:57")
+        "16:39"              | mkLocalT("16:39")
+        "16:39:57."          | mkLocalT("16:39:57")
+        "00:00:00.000000001" | mkLocalT("00:00:00.000000001")
     }
 
     @Unroll
@@ -37,10 +40,14 @@ class LocalTimeScalarTest extends AbstractScalarTest {
         then:
         thrown(expectedValue)
         where:
-        input            | expectedValue
-        "23:20:50.52Z"   | CoercingParseValueException
-        "16:39:57-08:00" | CoercingParseValueException
-        666             || CoercingParseValueException
+        input                 | expectedValue
+        "23:20:50.52Z"        | CoercingParseValueException
+        "16:39:57-08:00"      | CoercingParseValueException
+        "24:00:00"            | CoercingParseValueException
+        "16:60"               | CoercingParseValueException
+        "16:39:57.1234567890" | CoercingParseValueException
+        "16:3"                | CoercingParseValueException
+        666                  || CoercingParseValueException
     }
 
     def "localtime AST literal"() {
@@ -64,11 +71,13 @@ class LocalTimeScalarTest extends AbstractScalarTest {
         then:
         result == expectedValue
         where:
-        input                  | expectedValue
-        "23:20:50.123456789"   | "23:20:50.123456789"
-        "23:20:50"             | "23:20:50"
-        mkLocalT("16:39:57")   | "16:39:57"
-        mkLocalT("16:39:57.1") | "16:39:57.1"
+        input                          | expectedValue
+        "23:20:50.123456789"           | "23:20:50.123456789"
+        "23:20:50"                     | "23:20:50"
+        mkLocalT("16:39:57")           | "16:39:57"
+        mkLocalT("16:39:57.1")         | "16:39:57.1"
+        mkLocalT("16:39")              | "16:39:00"
+        mkLocalT("00:00:00.000000001") | "00:00:00.000000001"
     }
 
     def "localtime valueToLiteral"() {
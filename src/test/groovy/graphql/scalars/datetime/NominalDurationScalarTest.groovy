@@ -131,4 +131,41 @@ class NominalDurationScalarTest extends AbstractScalarTest {
         mkIntValue(123)         | CoercingParseLiteralException
         mkStringValue("")       | CoercingParseLiteralException
     }
+
+    def "nominalduration with a cache gives the same results and counts hits"() {
+        def cache = new NominalDurationCache(8)
+        def cachedCoercing = ExtendedScalars.newNominalDurationScalar(cache).getCoercing()
+
+        when:
+        def parsed = [
+                cachedCoercing.parseValue("P1M", graphQLContext, locale),
+                cachedCoercing.parseValue("P1M", graphQLContext, locale),
+                cachedCoercing.parseLiteral(mkStringValue("P1W"), variables, graphQLContext, locale),
+        ]
+        def serialized = [
+                cachedCoercing.serialize(mkPeriod("P7D"), graphQLContext, locale),
+                cachedCoercing.serialize("P1W", graphQLContext, locale),
+        ]
+        then:
+        parsed == [mkPeriod("P1M"), mkPeriod("P1M"), mkPeriod("P7D")]
+        parsed[0].is(parsed[1])
+        serialized == ["P7D", "P7D"]
+        cache.getHitCount() == 3
+        cache.getMissCount() == 3
+        cache.getHitRate() == 0.5d
+        cache.getMaxEntries() == 8
+
+        when:
+        cachedCoercing.parseValue("P1.5M", graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+
+        when:
+        cache.clear()
+        then:
+        cache.getHitCount() == 0
+        cache.getMissCount() == 0
+        cachedCoercing.parseValue("P" + "0" * 100 + "1D", graphQLContext, locale) == mkPeriod("P1D")
+        cache.getMissCount() == 1
+    }
 }
@@ -32,15 +32,17 @@ class SecondsSinceEpochScalarTest extends AbstractScalarTest {
         then:
         result.toEpochSecond() == expectedValue
         where:
-        input        | expectedValue
-        "0"          | 0L
-        "1"          | 1L
-        "1609459200" | 1609459200L // 2021-01-01T00:00:00Z
-        "1640995200" | 1640995200L // 2022-01-01T00:00:00Z
-        0            | 0L
-        1            | 1L
-        1609459200   | 1609459200L // 2021-01-01T00:00:00Z
-        1640995200   | 1640995200L // 2022-01-01T00:00:00Z
+        input               | expectedValue
+        "0"                 | 0L
+        "1"                 | 1L
+        "1609459200"        | 1609459200L // 2021-01-01T00:00:00Z
+        "1640995200"        | 1640995200L // 2022-01-01T00:00:00Z
+        "0000000001"        | 1L
+        "31556889832780799" | 31556889832780799L // the largest value a ZonedDateTime can hold
+        0                   | 0L
+        1                   | 1L
+        1609459200          | 1609459200L // 2021-01-01T00:00:00Z
+        1640995200          | 1640995200L // 2022-01-01T00:00:00Z
     }
 
     @Unroll
@@ -75,6 +77,13 @@ class SecondsSinceEpochScalarTest extends AbstractScalarTest {
         "123abc"                       | CoercingParseValueException
         "2022-01-01"                   | CoercingParseValueException
         "2022-01-01T00:00:00Z"         | CoercingParseValueException
+        ""                             | CoercingParseValueException
+        "-1"                           | CoercingParseValueException
+        "+1"                           | CoercingParseValueException
+        " 1"                           | CoercingParseValueException
+        "31556889832780800"            | CoercingParseValueException
+        "99999999999999999999"         | CoercingParseValueException
+        Long.MAX_VALUE                 | CoercingParseValueException
         new Object()                   | CoercingParseValueException
     }
 
@@ -131,5 +140,8 @@ class SecondsSinceEpochScalarTest extends AbstractScalarTest {
         mkStringValue("123abc")              | CoercingParseLiteralException
         mkStringValue("2022-01-01")          | CoercingParseLiteralException
         mkStringValue("2022-01-01T00:00:00Z")| CoercingParseLiteralException
+        mkStringValue("")                    | CoercingParseLiteralException
+        mkStringValue("99999999999999999999")| CoercingParseLiteralException
+        mkIntValue("9223372036854775807")    | CoercingParseLiteralException
     }
 }
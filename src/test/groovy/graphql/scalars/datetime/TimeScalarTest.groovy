@@ -7,6 +7,9 @@ import graphql.schema.CoercingParseValueException
 import graphql.schema.CoercingSerializeException
 import spock.lang.Unroll
 
+import java.time.OffsetTime
+import java.time.format.DateTimeFormatter
+
 import static graphql.scalars.util.TestKit.mkLocalDT
 import static graphql.scalars.util.TestKit.mkOffsetDT
 import static graphql.scalars.util.TestKit.mkOffsetT
@@ -33,6 +36,22 @@ class TimeScalarTest extends AbstractScalarTest {
         mkZonedDT(year: 1980, hour: 3)  | mkOffsetT("03:10:09+10:00")
     }
 
+    @Unroll
+    def "datetime parseValue accepts the same edge cases as ISO_OFFSET_TIME"() {
+
+        when:
+        def result = coercing.parseValue(input, graphQLContext, locale)
+        then:
+        result == OffsetTime.from(DateTimeFormatter.ISO_OFFSET_TIME.parse(input))
+        where:
+        input << [
+                "23:20z",
+                "23:20:50.Z",
+                "00:00:00.000000001-18:00",
+                "16:39:57+05:30:15",
+        ]
+    }
+
     @Unroll
     def "datetime parseValue bad inputs"() {
 
@@ -43,6 +62,11 @@ class TimeScalarTest extends AbstractScalarTest {
         where:
         input                          | expectedValue
         "1985-04-12"                   | CoercingParseValueException
+        "24:00:00Z"                    | CoercingParseValueException
+        "16:39:57"                     | CoercingParseValueException
+        "16:39:57+05"                  | CoercingParseValueException
+        "16:39:57.1234567890Z"         | CoercingParseValueException
+        "16:39:57+0530"                | CoercingParseValueException
         mkLocalDT(year: 1980, hour: 3) | CoercingParseValueException
         666                           || CoercingParseValueException
     }
@@ -71,6 +95,8 @@ class TimeScalarTest extends AbstractScalarTest {
         "12:00:27.87+00:20"             | "12:00:27.87+00:20"
         mkOffsetDT(year: 1980, hour: 3) | "03:10:09+10:00"
         mkZonedDT(year: 1980, hour: 3)  | "03:10:09+10:00"
+        "16:39+05:30:15"                | "16:39:00+05:30:15"
+        "16:39:57.000005000Z"           | "16:39:57.000005Z"
     }
 
     def "datetime valueToLiteral"() {
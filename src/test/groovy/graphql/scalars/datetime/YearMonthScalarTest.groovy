@@ -3,8 +3,10 @@ package graphql.scalars.datetime
 import graphql.language.StringValue
 import graphql.scalars.ExtendedScalars
 import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseValueException
 import spock.lang.Unroll
 
+import java.time.LocalDate
 import java.time.YearMonth
 
 import static graphql.scalars.util.TestKit.mkStringValue
@@ -21,8 +23,22 @@ class YearMonthScalarTest extends AbstractScalarTest {
         then:
         result == expectedValue
         where:
-        input     | expectedValue
-        "1937-01" | YearMonth.of(1937, 1)
+        input       | expectedValue
+        "1937-01"   | YearMonth.of(1937, 1)
+        "0001-12"   | YearMonth.of(1, 12)
+        "9999-06"   | YearMonth.of(9999, 6)
+        "+10000-01" | YearMonth.of(10000, 1)
+    }
+
+    @Unroll
+    def "yearMonth parseValue bad inputs"() {
+
+        when:
+        coercing.parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        where:
+        input << ["0000-01", "1937-00", "1937-13", "1937-1", "1937/01", "10000-01", ""]
     }
 
     @Unroll
@@ -45,8 +61,19 @@ class YearMonthScalarTest extends AbstractScalarTest {
         then:
         result == expectedValue
         where:
-        input     | expectedValue
-        "1937-01" | "1937-01"
+        input                     | expectedValue
+        "1937-01"                 | "1937-01"
+        YearMonth.of(1937, 1)     | "1937-01"
+        YearMonth.of(7, 11)       | "0007-11"
+        YearMonth.of(12345, 2)    | "+12345-02"
+        LocalDate.of(2010, 2, 28) | "2010-02"
+    }
+
+    def "yearMonth parseValue returns the same instance for the same year and month"() {
+
+        expect:
+        coercing.parseValue("1937-01", graphQLContext, locale).is(coercing.parseValue("1937-01", graphQLContext, locale))
+        coercing.serialize(YearMonth.of(1937, 1), graphQLContext, locale).is(coercing.serialize(YearMonth.of(1937, 1), graphQLContext, locale))
     }
 
     @Unroll
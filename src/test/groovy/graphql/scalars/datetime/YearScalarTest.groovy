@@ -3,8 +3,10 @@ package graphql.scalars.datetime
 import graphql.language.StringValue
 import graphql.scalars.ExtendedScalars
 import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseValueException
 import spock.lang.Unroll
 
+import java.time.LocalDate
 import java.time.Year
 
 import static graphql.scalars.util.TestKit.mkStringValue
@@ -21,8 +23,22 @@ class YearScalarTest extends AbstractScalarTest {
         then:
         result == expectedValue
         where:
-        input  | expectedValue
-        "1937" | Year.of(1937)
+        input    | expectedValue
+        "1937"   | Year.of(1937)
+        "0001"   | Year.of(1)
+        "9999"   | Year.of(9999)
+        "+10000" | Year.of(10000)
+    }
+
+    @Unroll
+    def "year parseValue bad inputs"() {
+
+        when:
+        coercing.parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        where:
+        input << ["0000", "10000", "193", "19a7", "-1937", ""]
     }
 
     @Unroll
@@ -45,8 +61,20 @@ class YearScalarTest extends AbstractScalarTest {
         then:
         result == expectedValue
         where:
-        input  | expectedValue
-        "1937" | "1937"
+        input                     | expectedValue
+        "1937"                    | "1937"
+        Year.of(1937)             | "1937"
+        Year.of(7)                | "0007"
+        Year.of(0)                | "0001"
+        Year.of(12345)            | "+12345"
+        LocalDate.of(2010, 2, 28) | "2010"
+    }
+
+    def "year parseValue returns the same instance for the same year"() {
+
+        expect:
+        coercing.parseValue("1937", graphQLContext, locale).is(coercing.parseValue("1937", graphQLContext, locale))
+        coercing.serialize(Year.of(1937), graphQLContext, locale).is(coercing.serialize(Year.of(1937), graphQLContext, locale))
     }
 
     @Unroll
@@ -0,0 +1,110 @@
+package graphql.scalars.java
+
+import graphql.AssertException
+import graphql.language.FloatValue
+import graphql.language.IntValue
+import graphql.language.StringValue
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.CoercingSerializeException
+import spock.lang.Shared
+import spock.lang.Unroll
+
+class BigNumberScalarTest extends AbstractScalarTest {
+
+    @Shared
+    def amount = ExtendedScalars.newBigDecimalScalar("Amount").maxDigits(34).maxScale(10).build().getCoercing()
+    @Shared
+    def bigId = ExtendedScalars.newBigIntegerScalar("BigId").maxExponent(38).build().getCoercing()
+    @Shared
+    def shortId = ExtendedScalars.newBigIntegerScalar("ShortId").maxDigits(38).build().getCoercing()
+
+    @Unroll
+    def "limited scalars accept #value"() {
+        expect:
+        coercing.parseValue(value, graphQLContext, locale) == result
+        coercing.serialize(value, graphQLContext, locale) == result
+
+        where:
+        coercing | value                                    | result
+        amount   | "12.5"                                   | new BigDecimal("12.5")
+        amount   | 42                                       | new BigDecimal("42")
+        amount   | "1234567890123456789012345678901234"     | new BigDecimal("1234567890123456789012345678901234")
+        amount   | "0.0000000001"                           | new BigDecimal("0.0000000001")
+        amount   | "1e10"                                   | new BigDecimal("1e10")
+        bigId    | "1.5e3"                                  | 1500
+        bigId    | new BigInteger("10").pow(38)             | new BigInteger("10").pow(38)
+        bigId    | "-99999999999999999999999999999999999999" | new BigInteger("-99999999999999999999999999999999999999")
+        shortId  | "1e37"                                   | new BigInteger("10").pow(37)
+    }
+
+    @Unroll
+    def "limited scalars reject #value before parsing it"() {
+        when:
+        coercing.parseValue(value, graphQLContext, locale)
+        then:
+        def e = thrown(CoercingParseValueException)
+        e.message.contains(message)
+
+        where:
+        coercing | value                                    | message
+        amount   | "1e999999999"                            | "scale of at most 10"
+        amount   | "12345678901234567890123456789012345"    | "at most 34 digits"
+        amount   | "0.00000000001"                          | "scale of at most 10"
+        amount   | new BigDecimal("1e50")                   | "scale of at most 10"
+        amount   | new BigInteger("10").pow(100)            | "at most 34 digits"
+        bigId    | "1e999999999"                            | "exponent of at most 38"
+        bigId    | "1E+99999999999999999999"                | "BigId"
+        bigId    | new BigInteger("10").pow(39)             | "exponent of at most 38"
+        shortId  | "1e999999999"                            | "at most 38 digits"
+        shortId  | "1e38"                                   | "at most 38 digits"
+    }
+
+    def "limited scalars still reject values that are not numbers"() {
+        when:
+        amount.serialize("not a number", graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+    }
+
+    @Unroll
+    def "limited scalars check literals #literal"() {
+        when:
+        coercing.parseLiteral(literal, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+
+        where:
+        coercing | literal
+        amount   | new StringValue("1e999999999")
+        amount   | new FloatValue(new BigDecimal("1e-20"))
+        bigId    | new FloatValue(new BigDecimal("1e999999999"))
+        bigId    | new IntValue(new BigInteger("10").pow(1000))
+    }
+
+    def "limited literals within the limits are parsed"() {
+        expect:
+        bigId.parseLiteral(new FloatValue(new BigDecimal("1.5e3")), variables, graphQLContext, locale) == 1500
+        amount.parseLiteral(new StringValue("12.50"), variables, graphQLContext, locale) == new BigDecimal("12.50")
+    }
+
+    def "unlimited scalars keep accepting any size"() {
+        expect:
+        ExtendedScalars.GraphQLBigDecimal.getCoercing().parseValue("1e999999999", graphQLContext, locale) == new BigDecimal("1e999999999")
+    }
+
+    def "builder defaults and validation"() {
+        when:
+        def scalar = ExtendedScalars.newBigIntegerScalar("BigId").build()
+        then:
+        scalar.getName() == "BigId"
+        scalar.getDescription() == "An arbitrary precision signed integer"
+
+        when:
+        ExtendedScalars.newBigDecimalScalar("Amount").maxDigits(0).build()
+        then:
+        thrown(AssertException)
+    }
+}
@@ -89,6 +89,9 @@ class ScalarsByteTest extends AbstractScalarTest {
         Byte.MAX_VALUE + 1l              | _
         Byte.MIN_VALUE - 1l              | _
         new Object()                     | _
+        "128"                            | _
+        "-129"                           | _
+        Integer.MAX_VALUE                | _
 
     }
 
@@ -110,6 +113,9 @@ class ScalarsByteTest extends AbstractScalarTest {
         Byte.MAX_VALUE + 1l              | _
         Byte.MIN_VALUE - 1l              | _
         new Object()                     | _
+        "128"                            | _
+        "-129"                           | _
+        Integer.MAX_VALUE                | _
 
     }
 
@@ -72,6 +72,14 @@ class ScalarsLongTest extends AbstractScalarTest {
         Long.MAX_VALUE                   | Long.MAX_VALUE
         Long.MIN_VALUE                   | Long.MIN_VALUE
         Long.valueOf(42345784398534785l) | 42345784398534785l
+        "+42"                            | 42
+        "007"                            | 7
+        "9223372036854775807"            | Long.MAX_VALUE
+        "-9223372036854775808"           | Long.MIN_VALUE
+        "4.2e1"                          | 42
+        -0.0d                            | 0
+        9007199254740991d                | 9007199254740991l
+        9007199254740992d                | 9007199254740992l
     }
 
     @Unroll
@@ -91,6 +99,12 @@ class ScalarsLongTest extends AbstractScalarTest {
         tooBig               | _
         tooSmall             | _
         new Object()         | _
+        "-"                  | _
+        "+"                  | _
+        tooBig.toString()    | _
+        tooSmall.toString()  | _
+        Double.NaN           | _
+        9.3e18d              | _
     }
 
     @Unroll
@@ -110,6 +124,12 @@ class ScalarsLongTest extends AbstractScalarTest {
         tooBig               | _
         tooSmall             | _
         new Object()         | _
+        "-"                  | _
+        "+"                  | _
+        tooBig.toString()    | _
+        tooSmall.toString()  | _
+        Double.NaN           | _
+        9.3e18d              | _
     }
 
 }
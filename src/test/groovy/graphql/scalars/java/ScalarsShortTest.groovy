@@ -89,6 +89,9 @@ class ScalarsShortTest extends AbstractScalarTest {
         Short.MAX_VALUE + 1l         | _
         Short.MIN_VALUE - 1l         | _
         new Object()                 | _
+        "32768"                      | _
+        "-32769"                     | _
+        Integer.MAX_VALUE            | _
 
     }
 
@@ -110,6 +113,9 @@ class ScalarsShortTest extends AbstractScalarTest {
         Short.MAX_VALUE + 1l         | _
         Short.MIN_VALUE - 1l         | _
         new Object()                 | _
+        "32768"                      | _
+        "-32769"                     | _
+        Integer.MAX_VALUE            | _
 
     }
 
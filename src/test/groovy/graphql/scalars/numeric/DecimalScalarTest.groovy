@@ -0,0 +1,123 @@
+package graphql.scalars.numeric
+
+import graphql.AssertException
+import graphql.language.BooleanValue
+import graphql.language.StringValue
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.CoercingSerializeException
+import spock.lang.Unroll
+
+import static graphql.scalars.util.TestKit.assertValueOrException
+import static graphql.scalars.util.TestKit.mkFloatValue
+import static graphql.scalars.util.TestKit.mkIntValue
+
+class DecimalScalarTest extends AbstractScalarTest {
+    def scalar = ExtendedScalars.newDecimalScalar("Money", 2)
+    def coercing = scalar.getCoercing()
+
+    @Unroll
+    def "serialize"() {
+        def result
+        when:
+        try {
+            result = coercing.serialize(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                       || expectedResult
+        1234L                       || "12.34"
+        5                           || "0.05"
+        -5L                         || "-0.05"
+        0L                          || "0.00"
+        Long.MIN_VALUE              || "-92233720368547758.08"
+        Long.MAX_VALUE              || "92233720368547758.07"
+        new BigDecimal("12.3")      || "12.30"
+        "-12.34"                    || "-12.34"
+        new BigDecimal("12.345")    || CoercingSerializeException
+        "12.345"                    || CoercingSerializeException
+        12.34d                      || CoercingSerializeException
+    }
+
+    @Unroll
+    def "parseValue"() {
+        def result
+        when:
+        try {
+            result = coercing.parseValue(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                       || expectedResult
+        "12.34"                     || 1234L
+        "-0.05"                     || -5L
+        "+7"                        || 700L
+        "12.3400000000000000000000" || 1234L
+        "1.5e2"                     || 15000L
+        "1234e-2"                   || 1234L
+        "-92233720368547758.08"     || Long.MIN_VALUE
+        12                          || 1200L
+        12.34d                      || 1234L
+        0.1f                        || 10L
+        new BigDecimal("12.30")     || 1230L
+        "12.345"                    || CoercingParseValueException
+        "92233720368547758.08"      || CoercingParseValueException
+        "1e999999999"               || CoercingParseValueException
+        "12,34"                     || CoercingParseValueException
+        "."                         || CoercingParseValueException
+        ""                          || CoercingParseValueException
+        Long.MAX_VALUE              || CoercingParseValueException
+        Double.NaN                  || CoercingParseValueException
+        true                        || CoercingParseValueException
+    }
+
+    @Unroll
+    def "parseLiteral"() {
+        def result
+        when:
+        try {
+            result = coercing.parseLiteral(input, variables, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                          || expectedResult
+        new StringValue("12.34")       || 1234L
+        mkIntValue(12)                 || 1200L
+        mkFloatValue("12.5")           || 1250L
+        mkFloatValue("1e999999999")    || CoercingParseLiteralException
+        mkFloatValue("0.001")          || CoercingParseLiteralException
+        mkIntValue("92233720368547759") || CoercingParseLiteralException
+        new BooleanValue(true)         || CoercingParseLiteralException
+    }
+
+    def "valueToLiteral"() {
+        expect:
+        coercing.valueToLiteral(1234L, graphQLContext, locale).isEqualTo(new StringValue("12.34"))
+    }
+
+    def "scale zero has no decimal point"() {
+        def whole = ExtendedScalars.newDecimalScalar("Whole", 0).getCoercing()
+
+        expect:
+        whole.serialize(-42L, graphQLContext, locale) == "-42"
+        whole.parseValue("42.000", graphQLContext, locale) == 42L
+    }
+
+    def "scale must be between 0 and 18"() {
+        when:
+        ExtendedScalars.newDecimalScalar("Broken", 19)
+        then:
+        thrown(AssertException)
+    }
+}
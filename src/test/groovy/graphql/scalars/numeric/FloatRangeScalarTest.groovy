@@ -0,0 +1,123 @@
+package graphql.scalars.numeric
+
+import graphql.AssertException
+import graphql.language.StringValue
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.CoercingSerializeException
+import spock.lang.Unroll
+
+import static graphql.scalars.util.TestKit.assertValueOrException
+import static graphql.scalars.util.TestKit.mkFloatValue
+import static graphql.scalars.util.TestKit.mkIntValue
+
+class FloatRangeScalarTest extends AbstractScalarTest {
+    def scalar = ExtendedScalars.newFloatRangeScalar("Latitude", -90, 90, true, false, false)
+    def coercing = scalar.getCoercing()
+
+    def "named and described"() {
+        expect:
+        scalar.getName() == "Latitude"
+        scalar.getDescription() == "A Float scalar that must be greater than or equal to -90.0 and less than 90.0"
+        ExtendedScalars.newFloatRangeScalar("Price", 0, Double.POSITIVE_INFINITY, false, true, false).getDescription() ==
+                "A Float scalar that must be greater than 0.0"
+    }
+
+    @Unroll
+    def "serialize"() {
+        def result
+        when:
+        try {
+            result = coercing.serialize(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                      || expectedResult
+        -90                        || -90.0d
+        66.6d                      || 66.6d
+        1.1f                       || 1.1d
+        42L                        || 42.0d
+        "66.6"                     || 66.6d
+        new BigDecimal("-12.5")    || -12.5d
+        90                         || CoercingSerializeException
+        -90.0001d                  || CoercingSerializeException
+        Double.NaN                 || CoercingSerializeException
+        Double.POSITIVE_INFINITY   || CoercingSerializeException
+        new BigDecimal("1e400")    || CoercingSerializeException
+        "NaN"                      || CoercingSerializeException
+        true                       || CoercingSerializeException
+    }
+
+    @Unroll
+    def "parseValue"() {
+        def result
+        when:
+        try {
+            result = coercing.parseValue(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                      || expectedResult
+        -90                        || -90.0d
+        66.6d                      || 66.6d
+        1.1f                       || 1.1d
+        90.0d                      || CoercingParseValueException
+        Float.NaN                  || CoercingParseValueException
+        Double.NEGATIVE_INFINITY   || CoercingParseValueException
+        "66.6"                     || CoercingParseValueException
+    }
+
+    @Unroll
+    def "parseLiteral"() {
+        def result
+        when:
+        try {
+            result = coercing.parseLiteral(input, variables, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                      || expectedResult
+        mkIntValue(-90)            || -90.0d
+        mkFloatValue("66.6")       || 66.6d
+        mkIntValue(90)             || CoercingParseLiteralException
+        mkFloatValue("1e400")      || CoercingParseLiteralException
+        new StringValue("66.6")    || CoercingParseLiteralException
+    }
+
+    def "valueToLiteral"() {
+        expect:
+        coercing.valueToLiteral(66.6d, graphQLContext, locale).isEqualTo(mkFloatValue("66.6"))
+        coercing.valueToLiteral(42, graphQLContext, locale).isEqualTo(mkFloatValue("42.0"))
+    }
+
+    def "NaN can be allowed"() {
+        def nanCoercing = ExtendedScalars.newFloatRangeScalar("Ratio", 0, 1, true, true, true).getCoercing()
+
+        expect:
+        nanCoercing.parseValue(Double.NaN, graphQLContext, locale).isNaN()
+        nanCoercing.serialize(Float.NaN, graphQLContext, locale).isNaN()
+
+        when:
+        nanCoercing.serialize("NaN", graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+    }
+
+    def "the range must not be empty"() {
+        when:
+        ExtendedScalars.newFloatRangeScalar("Broken", 1, 1, true, false, false)
+        then:
+        thrown(AssertException)
+    }
+}
@@ -0,0 +1,122 @@
+package graphql.scalars.numeric
+
+import graphql.AssertException
+import graphql.language.StringValue
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingParseValueException
+import graphql.schema.CoercingSerializeException
+import spock.lang.Unroll
+
+import static graphql.scalars.util.TestKit.assertValueOrException
+import static graphql.scalars.util.TestKit.mkFloatValue
+import static graphql.scalars.util.TestKit.mkIntValue
+
+class IntRangeScalarTest extends AbstractScalarTest {
+    def scalar = ExtendedScalars.newIntRangeScalar("Percentage", 0, 100)
+    def coercing = scalar.getCoercing()
+
+    def "named and described"() {
+        expect:
+        scalar.getName() == "Percentage"
+        scalar.getDescription() == "An Int scalar that must be between 0 and 100"
+    }
+
+    @Unroll
+    def "serialize"() {
+        def result
+        when:
+        try {
+            result = coercing.serialize(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                  || expectedResult
+        0                      || 0
+        100                    || 100
+        42L                    || 42
+        (short) 7              || 7
+        (byte) 7               || 7
+        "42"                   || 42
+        42.0d                  || 42
+        new BigInteger("42")   || 42
+        -1                     || CoercingSerializeException
+        101                    || CoercingSerializeException
+        Integer.MIN_VALUE      || CoercingSerializeException
+        4294967338L            || CoercingSerializeException
+        42.5d                  || CoercingSerializeException
+        "NaN"                  || CoercingSerializeException
+        true                   || CoercingSerializeException
+    }
+
+    @Unroll
+    def "parseValue"() {
+        def result
+        when:
+        try {
+            result = coercing.parseValue(input, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                  || expectedResult
+        0                      || 0
+        100                    || 100
+        42L                    || 42
+        new BigDecimal("42")   || 42
+        -1                     || CoercingParseValueException
+        101                    || CoercingParseValueException
+        4294967338L            || CoercingParseValueException
+        42.5d                  || CoercingParseValueException
+        "42"                   || CoercingParseValueException
+    }
+
+    @Unroll
+    def "parseLiteral"() {
+        def result
+        when:
+        try {
+            result = coercing.parseLiteral(input, variables, graphQLContext, locale)
+        } catch (Exception e) {
+            result = e
+        }
+        then:
+        assertValueOrException(result, expectedResult)
+        where:
+        input                          || expectedResult
+        mkIntValue(0)                  || 0
+        mkIntValue(100)                || 100
+        mkIntValue(-1)                 || CoercingParseLiteralException
+        mkIntValue(101)                || CoercingParseLiteralException
+        mkIntValue("4294967338")       || CoercingParseLiteralException
+        new StringValue("42")          || CoercingParseLiteralException
+        mkFloatValue("42.0")           || CoercingParseLiteralException
+    }
+
+    def "valueToLiteral"() {
+        expect:
+        coercing.valueToLiteral(42, graphQLContext, locale).isEqualTo(mkIntValue(42))
+        coercing.valueToLiteral("42", graphQLContext, locale).isEqualTo(mkIntValue(42))
+    }
+
+    def "full int range"() {
+        def all = ExtendedScalars.newIntRangeScalar("AnyInt", Integer.MIN_VALUE, Integer.MAX_VALUE).getCoercing()
+
+        expect:
+        all.parseValue(Integer.MIN_VALUE, graphQLContext, locale) == Integer.MIN_VALUE
+        all.parseValue(Integer.MAX_VALUE, graphQLContext, locale) == Integer.MAX_VALUE
+    }
+
+    def "min must not be greater than max"() {
+        when:
+        ExtendedScalars.newIntRangeScalar("Broken", 10, 1)
+        then:
+        thrown(AssertException)
+    }
+}
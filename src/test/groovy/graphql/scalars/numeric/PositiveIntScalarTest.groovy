@@ -70,4 +70,32 @@ class PositiveIntScalarTest extends AbstractScalarTest {
         mkIntValue(0)          || CoercingParseLiteralException
         mkIntValue(666)        || 666
     }
+
+    def "longs outside of the Int range fail like GraphQLInt"() {
+        when:
+        coercing.serialize(2147483648L, graphQLContext, locale)
+        then:
+        def e = thrown(CoercingSerializeException)
+        e.message == "Expected a value that can be converted to type 'Int' but it was a 'Long'"
+
+        when:
+        coercing.parseValue(2147483648L, graphQLContext, locale)
+        then:
+        def e2 = thrown(CoercingParseValueException)
+        e2.message == "Expected value to be in the integer range, but it was a '2147483648'"
+    }
+
+    def "literals that are not Ints fail like GraphQLInt"() {
+        when:
+        coercing.parseLiteral(new StringValue("1"), variables, graphQLContext, locale)
+        then:
+        def e = thrown(CoercingParseLiteralException)
+        e.message.startsWith("Expected an AST type of 'IntValue'")
+
+        when:
+        coercing.parseLiteral(mkIntValue("2147483648"), variables, graphQLContext, locale)
+        then:
+        def e2 = thrown(CoercingParseLiteralException)
+        e2.message.startsWith("Expected value to be in the integer range")
+    }
 }
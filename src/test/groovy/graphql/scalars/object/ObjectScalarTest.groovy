@@ -1,5 +1,6 @@
 package graphql.scalars.object
 
+import graphql.execution.CoercedVariables
 import graphql.language.ArrayValue
 import graphql.language.BooleanValue
 import graphql.language.EnumValue
@@ -13,6 +14,8 @@ import graphql.language.Value
 import graphql.language.VariableReference
 import graphql.scalars.ExtendedScalars
 import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingParseLiteralException
+import graphql.schema.CoercingSerializeException
 import spock.lang.Unroll
 
 class ObjectScalarTest extends AbstractScalarTest {
@@ -120,6 +123,238 @@ class ObjectScalarTest extends AbstractScalarTest {
                 mkStringValue("x"),
                 mkIntValue(1),
                 mkBooleanValue(true)] as List<Value>)
+        [1, 2] as int[]       | mkArrayValue([mkIntValue(1), mkIntValue(2)] as List<Value>)
+        [3L] as long[]        | mkArrayValue([mkIntValue(3)] as List<Value>)
+        [0.5d] as double[]    | mkArrayValue([mkFloatValue("0.5")] as List<Value>)
+        ["x", 1] as Object[]  | mkArrayValue([mkStringValue("x"), mkIntValue(1)] as List<Value>)
+        [a: [1, 2] as int[]]  | mkObjectValue([a: mkArrayValue([mkIntValue(1), mkIntValue(2)] as List<Value>)])
+    }
+
+    def "deeply nested values are turned into literals without overflowing the stack"() {
+        given:
+        Object input = "x"
+        5_000.times { input = [input] }
+
+        when:
+        def result = coercing.valueToLiteral(input, graphQLContext, locale)
+        def depth = 0
+        while (result instanceof ArrayValue) {
+            result = result.getValues()[0]
+            depth++
+        }
+
+        then:
+        depth == 5_000
+        result.isEqualTo(mkStringValue("x"))
+    }
+
+    def "values that contain themselves are rejected"() {
+        given:
+        def input = [:]
+        input.put("self", input)
+
+        when:
+        coercing.valueToLiteral(input, graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+    }
+
+    def "limited object scalar rejects values nested deeper than its limit"() {
+        given:
+        def limited = ExtendedScalars.newObjectScalar("Limited").maxDepth(2).build().getCoercing()
+
+        when:
+        def result = limited.valueToLiteral([a: [1, 2] as int[]], graphQLContext, locale)
+        then:
+        result.isEqualTo(mkObjectValue([a: mkArrayValue([mkIntValue(1), mkIntValue(2)] as List<Value>)]))
+
+        when:
+        limited.valueToLiteral([a: [[1]]], graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+    }
+
+    def "deeply nested literals do not overflow the stack"() {
+        given:
+        Value input = mkStringValue("x")
+        100_000.times { input = mkArrayValue([input] as List<Value>) }
+
+        when:
+        def result = coercing.parseLiteral(input, variables, graphQLContext, locale)
+        def depth = 0
+        while (result instanceof List) {
+            result = result[0]
+            depth++
+        }
+
+        then:
+        depth == 100_000
+        result == "x"
+    }
+
+    def "parsed literals are immutable and keep the order of their fields"() {
+        given:
+        def small = mkObjectValue([b: mkIntValue(1), a: mkNullValue()] as Map<String, Value>)
+        def large = mkObjectValue((1..20).collectEntries { ["fld$it".toString(), mkIntValue(it)] } as Map<String, Value>)
+
+        when:
+        def smallResult = coercing.parseLiteral(small, variables, graphQLContext, locale)
+        def largeResult = coercing.parseLiteral(large, variables, graphQLContext, locale)
+        def list = coercing.parseLiteral(mkArrayValue([mkIntValue(1)] as List<Value>), variables, graphQLContext, locale)
+
+        then:
+        smallResult == [b: 1, a: null]
+        smallResult.keySet().toList() == ["b", "a"]
+        smallResult.containsKey("a")
+        !smallResult.containsKey("c")
+        largeResult.size() == 20
+        largeResult.keySet().toList() == (1..20).collect { "fld$it".toString() }
+        (1..20).every { largeResult.get("fld$it".toString()) == it }
+        largeResult.get("fld21") == null
+        largeResult.hashCode() == new LinkedHashMap(largeResult).hashCode()
+
+        when:
+        smallResult.put("c", 1)
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        list.add(2)
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "null values inside arrays are parsed as nulls"() {
+        when:
+        def result = coercing.parseLiteral(mkArrayValue([mkNullValue(), mkIntValue(1)] as List<Value>), variables, graphQLContext, locale)
+        then:
+        result == [null, 1]
+    }
+
+    @Unroll
+    def "limited object scalar accepts literals within its limits #input"() {
+        given:
+        def limited = ExtendedScalars.newObjectScalar("Limited")
+                .maxDepth(2)
+                .maxNodes(5)
+                .maxStringBytes(6)
+                .build().getCoercing()
+
+        when:
+        def result = limited.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        result == expectedResult
+        where:
+        input                                                        | expectedResult
+        mkStringValue("abcdef")                                      | "abcdef"
+        mkArrayValue([mkArrayValue([mkIntValue(1)] as List<Value>)] as List<Value>) | [[1]]
+        mkObjectValue([a: mkStringValue("é"), b: mkEnumValue("c")])  | [a: "é", b: "c"]
+        mkArrayValue([mkIntValue(1), mkIntValue(2), mkIntValue(3), mkIntValue(4)] as List<Value>) | [1, 2, 3, 4]
+    }
+
+    @Unroll
+    def "limited object scalar rejects literals beyond its limits #input"() {
+        given:
+        def limited = ExtendedScalars.newObjectScalar("Limited")
+                .maxDepth(2)
+                .maxNodes(5)
+                .maxStringBytes(6)
+                .build().getCoercing()
+
+        when:
+        limited.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        def e = thrown(CoercingParseLiteralException)
+        e.message.contains(reason)
+        where:
+        input                                                                                                    | reason
+        mkArrayValue([mkArrayValue([mkArrayValue([] as List<Value>)] as List<Value>)] as List<Value>)            | "maximum depth of 2"
+        mkArrayValue([mkIntValue(1), mkIntValue(2), mkIntValue(3), mkIntValue(4), mkIntValue(5)] as List<Value>) | "maximum of 5 nodes"
+        mkStringValue("abcdefg")                                                                                 | "maximum of 6 bytes"
+        mkObjectValue([abc: mkStringValue("éé")])                                                                | "maximum of 6 bytes"
+        mkObjectValue([a: mkEnumValue("abcdef")])                                                                | "maximum of 6 bytes"
+    }
+
+    def "the depth limit is checked before deeply nested literals are converted"() {
+        given:
+        def limited = ExtendedScalars.newObjectScalar("Limited").maxDepth(64).build().getCoercing()
+        Value input = mkIntValue(1)
+        100_000.times { input = mkArrayValue([input] as List<Value>) }
+
+        when:
+        limited.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+    }
+
+    def "lazy object scalar parses literals into equal read only views"() {
+        given:
+        def lazy = ExtendedScalars.newObjectScalar("Lazy").lazy(true).build().getCoercing()
+        def input = mkObjectValue([
+                fld1: mkStringValue("s"),
+                fld2: mkArrayValue([mkIntValue(1), mkNullValue(), mkVarRef("varRef1")] as List<Value>),
+                fld3: mkObjectValue([child: mkEnumValue("E")] as Map<String, Value>)
+        ] as Map<String, Value>)
+
+        when:
+        def result = lazy.parseLiteral(input, variables, graphQLContext, locale)
+
+        then:
+        result == [fld1: "s", fld2: [1, null, "value1"], fld3: [child: "E"]]
+        result.keySet().toList() == ["fld1", "fld2", "fld3"]
+        result.get("fld3").is(result.get("fld3"))
+        result.get("fld2").get(2) == "value1"
+        !result.containsKey("missing")
+
+        when:
+        result.put("fld4", "x")
+        then:
+        thrown(UnsupportedOperationException)
+
+        when:
+        result.get("fld2").add("x")
+        then:
+        thrown(UnsupportedOperationException)
+    }
+
+    def "lazy object scalar only converts the fields that are read"() {
+        given:
+        def lazy = ExtendedScalars.newObjectScalar("Lazy").lazy(true).build().getCoercing()
+        def fields = (1..20).collectEntries { ["fld$it".toString(), mkVarRef("var$it")] }
+        def readVariables = []
+        def trackingVariables = new CoercedVariables([:]) {
+            @Override
+            Object get(String name) {
+                readVariables.add(name)
+                return name
+            }
+        }
+
+        when:
+        def result = lazy.parseLiteral(mkObjectValue(fields as Map<String, Value>), trackingVariables, graphQLContext, locale)
+        def value = result.get("fld7")
+        def keys = result.keySet().toList()
+
+        then:
+        value == "var7"
+        keys.size() == 20
+        readVariables == ["var7"]
+    }
+
+    def "lazy object scalar checks its limits when the literal is parsed"() {
+        given:
+        def lazy = ExtendedScalars.newObjectScalar("Lazy").lazy(true).maxDepth(2).maxStringBytes(4).build().getCoercing()
+
+        when:
+        lazy.parseLiteral(input, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+
+        where:
+        input << [
+                mkArrayValue([mkArrayValue([mkArrayValue([] as List<Value>)] as List<Value>)] as List<Value>),
+                mkArrayValue([mkObjectValue([a: mkStringValue("abcd")] as Map<String, Value>)] as List<Value>),
+        ]
     }
 
 
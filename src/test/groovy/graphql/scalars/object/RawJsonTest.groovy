@@ -0,0 +1,81 @@
+package graphql.scalars.object
+
+import graphql.language.ArrayValue
+import graphql.language.BooleanValue
+import graphql.language.FloatValue
+import graphql.language.IntValue
+import graphql.language.NullValue
+import graphql.language.ObjectField
+import graphql.language.ObjectValue
+import graphql.language.StringValue
+import graphql.language.Value
+import graphql.scalars.ExtendedScalars
+import graphql.scalars.util.AbstractScalarTest
+import graphql.schema.CoercingSerializeException
+import spock.lang.Unroll
+
+import java.nio.charset.StandardCharsets
+
+class RawJsonTest extends AbstractScalarTest {
+
+    def coercing = ExtendedScalars.Json.getCoercing()
+
+    def "raw json is serialized as is"() {
+        given:
+        def text = RawJson.of('{"a":[1,2]}')
+        def bytes = RawJson.ofUtf8('{"a":[1,2]}'.getBytes(StandardCharsets.UTF_8))
+
+        expect:
+        coercing.serialize(text, graphQLContext, locale).is(text)
+        coercing.serialize(bytes, graphQLContext, locale).is(bytes)
+        coercing.parseValue(text, graphQLContext, locale).is(text)
+    }
+
+    def "raw json can be written out without decoding it"() {
+        given:
+        def utf8 = '{"name":"Zoë"}'.getBytes(StandardCharsets.UTF_8)
+        def fromBytes = RawJson.ofUtf8(utf8)
+        def fromText = RawJson.of('{"name":"Zoë"}')
+        def out = new ByteArrayOutputStream()
+        def sb = new StringBuilder()
+
+        when:
+        fromBytes.writeTo(out)
+        fromText.appendTo(sb)
+
+        then:
+        fromBytes.toUtf8Bytes().is(utf8)
+        out.toByteArray() == utf8
+        sb.toString() == '{"name":"Zoë"}'
+        fromBytes.toString() == '{"name":"Zoë"}'
+        fromBytes == fromText
+        fromBytes.hashCode() == fromText.hashCode()
+    }
+
+    @Unroll
+    def "raw json is read when it is turned into a literal #input"() {
+        when:
+        def result = coercing.valueToLiteral(input, graphQLContext, locale)
+        then:
+        result.isEqualTo(expectedResult)
+        where:
+        input                                  | expectedResult
+        RawJson.of('"s\\n\\u00e9"')            | new StringValue("s\né")
+        RawJson.of(' 42 ')                     | new IntValue(BigInteger.valueOf(42))
+        RawJson.of('-1.5e3')                   | new FloatValue(new BigDecimal("-1.5e3"))
+        RawJson.of('true')                     | new BooleanValue(true)
+        RawJson.of('null')                     | NullValue.newNullValue().build()
+        RawJson.of('[1, {"a": null}]')         | new ArrayValue([new IntValue(BigInteger.ONE), new ObjectValue([new ObjectField("a", NullValue.newNullValue().build())])] as List<Value>)
+        [doc: RawJson.of('{"b": [] }')]        | new ObjectValue([new ObjectField("doc", new ObjectValue([new ObjectField("b", new ArrayValue([]))]))])
+    }
+
+    @Unroll
+    def "invalid raw json can not be turned into a literal #input"() {
+        when:
+        coercing.valueToLiteral(RawJson.of(input), graphQLContext, locale)
+        then:
+        thrown(CoercingSerializeException)
+        where:
+        input << ['', '{', '[1,]', '{"a"}', '{a:1}', '01', '1.', '"abc', '"\\x"', 'tru', '1 2', '[1]]']
+    }
+}
@@ -1,12 +1,15 @@
 package graphql.scalars.regex
 
+import graphql.AssertException
 import graphql.language.StringValue
 import graphql.scalars.ExtendedScalars
 import graphql.scalars.util.AbstractScalarTest
+import graphql.scalars.util.LiteralCache
 import graphql.schema.CoercingParseLiteralException
 import graphql.schema.CoercingParseValueException
 import graphql.schema.CoercingSerializeException
 import graphql.schema.GraphQLScalarType
+import spock.lang.Timeout
 import spock.lang.Unroll
 
 import java.util.regex.Pattern
@@ -100,4 +103,162 @@ class RegexScalarTest extends AbstractScalarTest {
         mkStringValue("(02)abc123") || CoercingSerializeException
     }
 
+    GraphQLScalarType legacyIdScalar = ExtendedScalars.newRegexScalar("LegacyId")
+            .addPatterns(
+                    Pattern.compile("[0-9]{8}"),
+                    Pattern.compile("(?i)[a-f0-9]{8}"),
+                    Pattern.compile("([A-Z]{2})-\\1-[0-9]+"),
+                    Pattern.compile("ID-(?<number>[0-9]+)", Pattern.CASE_INSENSITIVE))
+            .build()
+
+    @Unroll
+    def "regex scalars with several patterns find the first pattern that matches"() {
+        when:
+        def result = legacyIdScalar.getCoercing().parseValue(input, graphQLContext, locale)
+        def pattern = RegexScalar.findMatchingPattern(legacyIdScalar, input)
+        then:
+        result == input
+        pattern.map({ it.pattern() }).orElse(null) == expectedPattern
+        where:
+        input          || expectedPattern
+        "12345678"     || "[0-9]{8}"
+        "ABCDEF12"     || "(?i)[a-f0-9]{8}"
+        "AB-AB-42"     || "([A-Z]{2})-\\1-[0-9]+"
+        "id-42"        || "ID-(?<number>[0-9]+)"
+    }
+
+    @Unroll
+    def "regex scalars with several patterns reject values that match none of them"() {
+        when:
+        legacyIdScalar.getCoercing().parseValue(input, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+        RegexScalar.findMatchingPattern(legacyIdScalar, input) == Optional.empty()
+        where:
+        input << ["1234567", "ABCDEFG1", "AB-CD-42", "ab-ab-42", "ID-"]
+    }
+
+    def "patterns are fused into a single pattern when they can be"() {
+        when:
+        def fused = new PatternSet([Pattern.compile("[0-9]+"), Pattern.compile("(?i)x(y)"), Pattern.compile("a # comment", Pattern.COMMENTS)], false, PatternFilter.ANY_VALUE)
+        def numbered = new PatternSet([Pattern.compile("[0-9]+"), Pattern.compile("(a)\\1")], false, PatternFilter.ANY_VALUE)
+        def inline = new PatternSet([Pattern.compile("[0-9]+"), Pattern.compile("a(?i)b")], false, PatternFilter.ANY_VALUE)
+        then:
+        fused.isFused()
+        fused.indexOf("42") == 0
+        fused.indexOf("XY") == 1
+        fused.indexOf("a") == 2
+        fused.indexOf("b") == -1
+        !numbered.isFused()
+        numbered.indexOf("aa") == 1
+        !inline.isFused()
+        inline.indexOf("aB") == 1
+        inline.indexOf("AB") == -1
+    }
+
+    def "patterns are found for regex scalars that cache their literals"() {
+        when:
+        def cached = ExtendedScalars.withLiteralCache(legacyIdScalar, new LiteralCache(16, 1024))
+        then:
+        RegexScalar.findMatchingPattern(cached, "id-42").map({ it.pattern() }).orElse(null) == "ID-(?<number>[0-9]+)"
+        RegexScalar.findMatchingPattern(cached, "ID-") == Optional.empty()
+
+        when:
+        RegexScalar.findMatchingPattern(ExtendedScalars.withLiteralCache(ExtendedScalars.Json, new LiteralCache(16, 1024)), "x")
+        then:
+        thrown(AssertException)
+    }
+
+    GraphQLScalarType linearIdScalar = ExtendedScalars.newRegexScalar("LinearId")
+            .addPatterns(
+                    Pattern.compile("[0-9]{8}"),
+                    Pattern.compile("(?i)[a-f0-9]{8}"),
+                    Pattern.compile("ID-(?<number>[0-9]+)", Pattern.CASE_INSENSITIVE),
+                    Pattern.compile("(a|aa)*b"))
+            .linearTime(true)
+            .build()
+
+    @Unroll
+    def "regex scalars can match values in linear time"() {
+        when:
+        def pattern = RegexScalar.findMatchingPattern(linearIdScalar, input)
+        then:
+        pattern.map({ it.pattern() }).orElse(null) == expectedPattern
+        where:
+        input      || expectedPattern
+        "12345678" || "[0-9]{8}"
+        "ABCDEF12" || "(?i)[a-f0-9]{8}"
+        "id-42"    || "ID-(?<number>[0-9]+)"
+        "aaab"     || "(a|aa)*b"
+        "1234567"  || null
+        "ID-"      || null
+        "aaa"      || null
+    }
+
+    @Timeout(10)
+    def "linear time matching does not backtrack"() {
+        when:
+        linearIdScalar.getCoercing().parseValue("a" * 10_000, graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+    }
+
+    @Unroll
+    def "patterns that can not be matched in linear time are rejected when the scalar is built"() {
+        when:
+        ExtendedScalars.newRegexScalar("Unsupported").addPattern(pattern).linearTime(true).build()
+        then:
+        def e = thrown(AssertException)
+        e.message.contains(reason)
+        where:
+        pattern                                        || reason
+        Pattern.compile("(a)\\1")                      || "back references are not supported"
+        Pattern.compile("a(?=b)")                      || "lookaround is not supported"
+        Pattern.compile("a*+")                         || "possessive quantifiers are not supported"
+        Pattern.compile("\\bword")                     || "\\b is not supported"
+        Pattern.compile("a", Pattern.COMMENTS)         || "flags are supported"
+        Pattern.compile("(.{100}){200}")               || "states"
+    }
+
+    @Unroll
+    def "filters derived from patterns reject values that can not match"() {
+        when:
+        def filter = PatternFilter.of(Pattern.compile(pattern))
+        then:
+        filter.mayMatch(value) == mayMatch
+        where:
+        pattern                  | value         || mayMatch
+        "ID-[0-9]{4,6}"          | "ID-1234"     || true
+        "ID-[0-9]{4,6}"          | "ID-123"      || false
+        "ID-[0-9]{4,6}"          | "ID-1234567"  || false
+        "ID-[0-9]{4,6}"          | "XX-1234"     || false
+        "ID-[0-9]{4,6}"          | "ID-12a4"     || false
+        "[a-z]+\\.(png|jpg)"     | "cat.gif"     || false
+        "[a-z]+\\.(png|jpg)"     | "cat.jpg"     || true
+        "(?i)[a-f0-9]{8}"        | "ABCDEF12"    || true
+        "(?i)[a-f0-9]{8}"        | "ABCDEFGH"    || false
+        "(a)\\1"                 | "xyz"         || true
+    }
+
+    def "regex scalars reject values that break the hints without matching them"() {
+        given:
+        def scalar = ExtendedScalars.newRegexScalar("Hex")
+                .addPattern(Pattern.compile(".*"))
+                .maxLength(8)
+                .charset("0123456789abcdef")
+                .build()
+
+        expect:
+        scalar.getCoercing().parseValue("cafe", graphQLContext, locale) == "cafe"
+
+        when:
+        scalar.getCoercing().parseValue("cafebabe0", graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+
+        when:
+        scalar.getCoercing().parseValue("coffee", graphQLContext, locale)
+        then:
+        thrown(CoercingParseValueException)
+    }
 }
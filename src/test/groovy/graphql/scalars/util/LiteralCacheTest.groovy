@@ -0,0 +1,133 @@
+package graphql.scalars.util
+
+import graphql.execution.CoercedVariables
+import graphql.language.ArrayValue
+import graphql.language.ObjectField
+import graphql.language.ObjectValue
+import graphql.language.StringValue
+import graphql.language.Value
+import graphql.language.VariableReference
+import graphql.scalars.ExtendedScalars
+import graphql.schema.CoercingParseLiteralException
+
+import java.time.LocalDate
+
+import static graphql.scalars.util.TestKit.mkStringValue
+
+class LiteralCacheTest extends AbstractScalarTest {
+
+    def "the same literal node is only parsed once"() {
+        given:
+        def cache = new LiteralCache(16, 1024 * 1024)
+        def json = ExtendedScalars.withLiteralCache(ExtendedScalars.Json, cache)
+        def literal = new ObjectValue([new ObjectField("a", new ArrayValue([mkStringValue("b")] as List<Value>))])
+
+        when:
+        def first = json.getCoercing().parseLiteral(literal, variables, graphQLContext, locale)
+        def second = json.getCoercing().parseLiteral(literal, variables, graphQLContext, locale)
+
+        then:
+        json.getName() == "JSON"
+        first == [a: ["b"]]
+        second.is(first)
+        cache.getHitCount() == 1
+        cache.getMissCount() == 1
+        cache.getHitRate() == 0.5d
+        cache.getEstimatedBytes() > 0
+
+        when: "an equal literal is a different node"
+        def third = json.getCoercing().parseLiteral(
+                new ObjectValue([new ObjectField("a", new ArrayValue([mkStringValue("b")] as List<Value>))]),
+                variables, graphQLContext, locale)
+
+        then:
+        third == first
+        !third.is(first)
+        cache.getMissCount() == 2
+
+        when:
+        cache.clear()
+
+        then:
+        cache.getHitCount() == 0
+        cache.getMissCount() == 0
+        cache.getEstimatedBytes() == 0
+    }
+
+    def "literals with variable references are not cached"() {
+        given:
+        def cache = new LiteralCache(16, 1024 * 1024)
+        def json = ExtendedScalars.withLiteralCache(ExtendedScalars.Json, cache).getCoercing()
+        def literal = new ArrayValue([mkStringValue("a"), new VariableReference("var")] as List<Value>)
+
+        when:
+        def first = json.parseLiteral(literal, new CoercedVariables([var: 1]), graphQLContext, locale)
+        def second = json.parseLiteral(literal, new CoercedVariables([var: 2]), graphQLContext, locale)
+
+        then:
+        first == ["a", 1]
+        second == ["a", 2]
+        cache.getHitCount() == 0
+        cache.getEstimatedBytes() == 0
+    }
+
+    def "lazy views of a literal are not cached"() {
+        given:
+        def cache = new LiteralCache(16, 1024 * 1024)
+        def lazy = ExtendedScalars.withLiteralCache(ExtendedScalars.newObjectScalar("Lazy").lazy(true).build(), cache).getCoercing()
+        def literal = new ObjectValue([new ObjectField("a", mkStringValue("b"))])
+
+        when:
+        def first = lazy.parseLiteral(literal, variables, graphQLContext, locale)
+        def second = lazy.parseLiteral(literal, variables, graphQLContext, locale)
+
+        then:
+        first == [a: "b"]
+        second == first
+        !second.is(first)
+        cache.getHitCount() == 0
+        cache.getEstimatedBytes() == 0
+    }
+
+    def "literals larger than the byte limit are not cached"() {
+        given:
+        def cache = new LiteralCache(16, 1000)
+        def json = ExtendedScalars.withLiteralCache(ExtendedScalars.Json, cache).getCoercing()
+        def literal = mkStringValue("x" * 1000)
+
+        when:
+        json.parseLiteral(literal, variables, graphQLContext, locale)
+        json.parseLiteral(literal, variables, graphQLContext, locale)
+
+        then:
+        cache.getHitCount() == 0
+        cache.getEstimatedBytes() == 0
+    }
+
+    def "any scalar can cache its literals and errors are not cached"() {
+        given:
+        def cache = new LiteralCache(16, 1024 * 1024)
+        def date = ExtendedScalars.withLiteralCache(ExtendedScalars.Date, cache).getCoercing()
+        def literal = mkStringValue("2024-01-31")
+        def invalid = mkStringValue("not a date")
+
+        when:
+        def first = date.parseLiteral(literal, variables, graphQLContext, locale)
+        def second = date.parseLiteral(literal, variables, graphQLContext, locale)
+
+        then:
+        first == LocalDate.of(2024, 1, 31)
+        second.is(first)
+        date.serialize(first, graphQLContext, locale) == "2024-01-31"
+
+        when:
+        date.parseLiteral(invalid, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+
+        when:
+        date.parseLiteral(invalid, variables, graphQLContext, locale)
+        then:
+        thrown(CoercingParseLiteralException)
+    }
+}